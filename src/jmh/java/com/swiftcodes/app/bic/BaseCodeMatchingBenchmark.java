@@ -0,0 +1,57 @@
+package com.swiftcodes.app.bic;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Matching a branch to its headquarters base code: {@code substring} plus {@code HashSet<String>} against
+ * the packed {@link BaseCodeSet}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BaseCodeMatchingBenchmark {
+
+    @Param({"100000"})
+    public int headquarters;
+
+    private final Set<String> stringBases = new HashSet<>();
+    private BaseCodeSet packedBases;
+    private String[] branches;
+    private int next;
+
+    @Setup
+    public void setup() {
+        packedBases = new BaseCodeSet(headquarters);
+        for (int i = 0; i < headquarters; i++) {
+            String headquarter = "BK%06dXXX".formatted(i);
+            stringBases.add(headquarter.substring(0, 8));
+            packedBases.add(headquarter);
+        }
+        branches = new String[1024];
+        for (int i = 0; i < branches.length; i++) {
+            branches[i] = "BK%06d%03d".formatted(i * 97 % (headquarters * 2), i % 1000);
+        }
+    }
+
+    private String nextBranch() {
+        next = (next + 1) & (branches.length - 1);
+        return branches[next];
+    }
+
+    @Benchmark
+    public boolean substringHashSet() {
+        return stringBases.contains(nextBranch().substring(0, 8));
+    }
+
+    @Benchmark
+    public boolean packedBaseCodeSet() {
+        return packedBases.contains(nextBranch());
+    }
+}
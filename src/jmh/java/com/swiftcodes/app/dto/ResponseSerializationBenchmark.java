@@ -0,0 +1,70 @@
+package com.swiftcodes.app.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of the lookup responses with the same mapper defaults Spring MVC uses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseSerializationBenchmark {
+
+    @Param({"10", "500"})
+    public int entries;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private SwiftCodeResponseDTO headquarters;
+    private CountrySwiftCodesResponseDTO country;
+
+    @Setup
+    public void setup() {
+        List<SwiftCodeResponseDTO> codes = new ArrayList<>();
+        for (int i = 0; i < entries; i++) {
+            codes.add(SwiftCodeResponseDTO.builder()
+                    .swiftCode("ABCDEFGH%03d".formatted(i))
+                    .bankName("BANK TEST")
+                    .address("UL. ODDZIALOWA " + i)
+                    .countryISO2("PL")
+                    .isHeadquarter(false)
+                    .build());
+        }
+
+        headquarters = SwiftCodeResponseDTO.builder()
+                .swiftCode("ABCDEFGHXXX")
+                .bankName("BANK TEST")
+                .address("UL. TESTOWA 1")
+                .countryISO2("PL")
+                .countryName("POLAND")
+                .isHeadquarter(true)
+                .branchCount(entries)
+                .branches(codes)
+                .build();
+
+        country = new CountrySwiftCodesResponseDTO();
+        country.setCountryISO2("PL");
+        country.setCountryName("POLAND");
+        country.setSwiftCodes(codes);
+    }
+
+    @Benchmark
+    public byte[] headquartersWithBranches() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(headquarters);
+    }
+
+    @Benchmark
+    public byte[] countryListing() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(country);
+    }
+}
@@ -0,0 +1,74 @@
+package com.swiftcodes.app.importer;
+
+import com.swiftcodes.app.config.ImportProperties;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing and normalization of an upload, as used by every import engine. One operation reads
+ * the whole file, so per-row cost is the score divided by {@code rows}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SwiftCodeCsvReaderBenchmark {
+
+    @Param({"1000", "200000"})
+    public int rows;
+
+    private final SwiftCodeCsvReader reader = new SwiftCodeCsvReader();
+
+    private ParallelSwiftCodeCsvReader parallelReader;
+
+    private byte[] csv;
+
+    private Path file;
+
+    @Setup
+    public void setup() throws IOException {
+        StringBuilder builder = new StringBuilder("COUNTRY ISO2 CODE,SWIFT CODE,CODE TYPE,NAME,ADDRESS,TOWN NAME,COUNTRY NAME,TIME ZONE\n");
+        for (int i = 0; i < rows; i++) {
+            String suffix = i % 10 == 0 ? "XXX" : "%03d".formatted(i % 1000);
+            builder.append("pl,bank%04d%s,BIC11,Bank %d,\"ul. Testowa %d, Warszawa\",WARSZAWA,poland,Europe/Warsaw\n"
+                    .formatted(i / 10, suffix, i, i));
+        }
+        csv = builder.toString().getBytes(StandardCharsets.UTF_8);
+
+        file = Files.createTempFile("swift-codes-benchmark-", ".csv");
+        Files.write(file, csv);
+        ImportProperties importProperties = new ImportProperties();
+        importProperties.getParsing().setChunkSize(DataSize.ofKilobytes(256));
+        parallelReader = new ParallelSwiftCodeCsvReader(importProperties);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        parallelReader.shutdown();
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public SwiftCodeCsvReader.Summary read(Blackhole blackhole) throws IOException {
+        return reader.read(new ByteArrayInputStream(csv), blackhole::consume);
+    }
+
+    @Benchmark
+    public SwiftCodeCsvReader.Summary readParallel(Blackhole blackhole) throws IOException {
+        try (InputStream inputStream = new FileInputStream(file.toFile())) {
+            return parallelReader.read(inputStream, blackhole::consume);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.swiftcodes.app.mapper;
+
+import com.swiftcodes.app.dto.SwiftCodeResponseDTO;
+import com.swiftcodes.app.model.SwiftCode;
+import com.swiftcodes.app.repository.SwiftCodeDetailsView;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SwiftCodeMapperBenchmark {
+
+    private final SwiftCodeMapper mapper = Mappers.getMapper(SwiftCodeMapper.class);
+
+    private final SwiftCode entity = new SwiftCode(
+            "ABCDEFGHXXX", "BANK TEST", "UL. TESTOWA 1, WARSZAWA", "PL", true, "ABCDEFGH");
+
+    private final SwiftCodeDetailsView view = new SwiftCodeDetailsView(
+            "ABCDEFGHXXX", "BANK TEST", "UL. TESTOWA 1, WARSZAWA", "PL", true, "POLAND");
+
+    @Benchmark
+    public SwiftCodeResponseDTO toResponseDTOFromEntity() {
+        return mapper.toResponseDTO(entity);
+    }
+
+    @Benchmark
+    public SwiftCodeResponseDTO toResponseDTOFromView() {
+        return mapper.toResponseDTO(view);
+    }
+}
@@ -0,0 +1,89 @@
+package com.swiftcodes.app.service;
+
+import com.swiftcodes.app.config.NegativeLookupProperties;
+import com.swiftcodes.app.dto.CountrySwiftCodesResponseDTO;
+import com.swiftcodes.app.dto.SwiftCodeResponseDTO;
+import com.swiftcodes.app.mapper.SwiftCodeMapper;
+import com.swiftcodes.app.model.Country;
+import com.swiftcodes.app.model.SwiftCode;
+import com.swiftcodes.app.readmodel.CountryRegistry;
+import com.swiftcodes.app.readmodel.HeadquartersRegistry;
+import com.swiftcodes.app.readmodel.KnownSwiftCodesFilter;
+import com.swiftcodes.app.repository.CountryRepository;
+import com.swiftcodes.app.repository.SwiftCodeDetailsView;
+import com.swiftcodes.app.repository.SwiftCodeRepository;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DTO assembly in {@link SwiftCodeServiceImpl} with the database replaced by canned rows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SwiftCodeServiceBenchmark {
+
+    @Param({"10", "500"})
+    public int branches;
+
+    private final Pageable page = PageRequest.of(0, 50);
+
+    private SwiftCodeServiceImpl service;
+
+    @Setup
+    public void setup() {
+        List<SwiftCodeDetailsView> detailRows = new ArrayList<>();
+        detailRows.add(new SwiftCodeDetailsView("ABCDEFGHXXX", "BANK TEST", "UL. TESTOWA 1", "pl", true, "Poland"));
+        for (int i = 0; i < branches; i++) {
+            detailRows.add(new SwiftCodeDetailsView(
+                    "ABCDEFGH%03d".formatted(i), "BANK TEST", "UL. ODDZIALOWA " + i, "pl", false, "Poland"));
+        }
+
+        List<SwiftCode> countryRows = new ArrayList<>();
+        for (int i = 0; i < page.getPageSize(); i++) {
+            countryRows.add(new SwiftCode("BANK%04dXXX".formatted(i), "Bank " + i, "Address " + i, "PL", true, null));
+        }
+
+        SwiftCodeRepository swiftCodeRepository = RepositoryStubs.stub(SwiftCodeRepository.class, Map.of(
+                "findWithBranches", args -> detailRows,
+                "findByCountryIso2Code", args -> countryRows));
+        CountryRepository countryRepository = RepositoryStubs.stub(CountryRepository.class, Map.of(
+                "findAll", args -> List.of(new Country("PL", "Poland"))));
+
+        NegativeLookupProperties negativeLookup = new NegativeLookupProperties();
+        negativeLookup.setEnabled(true);
+
+        service = new SwiftCodeServiceImpl(
+                swiftCodeRepository,
+                Mappers.getMapper(SwiftCodeMapper.class),
+                new CountryRegistry(countryRepository),
+                new HeadquartersRegistry(swiftCodeRepository),
+                new KnownSwiftCodesFilter(swiftCodeRepository, negativeLookup),
+                event -> { });
+    }
+
+    @Benchmark
+    public SwiftCodeResponseDTO getSwiftCodeHeadquarters() {
+        return service.getSwiftCode("ABCDEFGHXXX");
+    }
+
+    @Benchmark
+    public CountrySwiftCodesResponseDTO getSwiftCodesByCountry() {
+        return service.getSwiftCodesByCountry("PL", page);
+    }
+
+    @Benchmark
+    public String calculateBaseSwiftCode() {
+        return SwiftCodeServiceImpl.calculateBaseSwiftCode("ABCDEFGHXXX");
+    }
+}
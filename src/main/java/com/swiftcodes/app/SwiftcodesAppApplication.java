@@ -2,10 +2,12 @@ package com.swiftcodes.app;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.retry.annotation.EnableRetry;
 
 @SpringBootApplication
 @EnableRetry
+@ConfigurationPropertiesScan
 public class SwiftcodesAppApplication {
 
 	public static void main(String[] args) {
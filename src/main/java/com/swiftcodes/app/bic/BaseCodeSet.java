@@ -0,0 +1,42 @@
+package com.swiftcodes.app.bic;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Set of base codes, addressed by any code whose first 8 characters are the base,
+ * so branches can be matched to headquarters without taking substrings. Not thread-safe.
+ */
+public final class BaseCodeSet {
+
+    private final LongHashSet packed;
+    private final Set<String> irregular = new HashSet<>();
+
+    public BaseCodeSet(int expectedSize) {
+        this.packed = new LongHashSet(expectedSize);
+    }
+
+    public void add(String code) {
+        long base = BicCodec.encodeBase(code);
+        if (base == BicCodec.INVALID) {
+            irregular.add(baseOf(code));
+        } else {
+            packed.add(base);
+        }
+    }
+
+    public boolean contains(String code) {
+        long base = BicCodec.encodeBase(code);
+        return base == BicCodec.INVALID
+                ? irregular.contains(baseOf(code))
+                : packed.contains(base);
+    }
+
+    private static String baseOf(String code) {
+        return code.length() < BicCodec.BASE_LENGTH ? code : code.substring(0, BicCodec.BASE_LENGTH);
+    }
+
+    public int size() {
+        return packed.size() + irregular.size();
+    }
+}
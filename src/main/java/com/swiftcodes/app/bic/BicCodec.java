@@ -0,0 +1,94 @@
+package com.swiftcodes.app.bic;
+
+/**
+ * Packs SWIFT codes into a {@code long} without allocating. Each of up to 11 characters from {@code [A-Z0-9]}
+ * becomes a base-37 digit, and unused trailing positions are 0. The base code (first 8 characters) of a packed
+ * code is therefore the same number with its last three digits cleared, and codes of different lengths never
+ * collide. Valid codes always pack to a positive value; anything else yields {@link #INVALID}.
+ */
+public final class BicCodec {
+
+    public static final long INVALID = -1L;
+
+    public static final int MAX_LENGTH = 11;
+    public static final int BASE_LENGTH = 8;
+
+    private static final int RADIX = 37;
+    private static final long BRANCH_DIVISOR = (long) RADIX * RADIX * RADIX;
+    private static final long[] POSITION_WEIGHTS = new long[MAX_LENGTH];
+
+    static {
+        long weight = 1;
+        for (int i = MAX_LENGTH - 1; i >= 0; i--) {
+            POSITION_WEIGHTS[i] = weight;
+            weight *= RADIX;
+        }
+    }
+
+    private BicCodec() {
+    }
+
+    public static long encode(CharSequence code) {
+        return code == null ? INVALID : encode(code, code.length());
+    }
+
+    /**
+     * Packs the first 8 characters of {@code code}. Equivalent to {@code baseOf(encode(code))} for valid codes,
+     * but only the base characters need to be encodable.
+     */
+    public static long encodeBase(CharSequence code) {
+        if (code == null || code.length() < BASE_LENGTH) {
+            return INVALID;
+        }
+        return encode(code, BASE_LENGTH);
+    }
+
+    public static long baseOf(long packed) {
+        return packed == INVALID ? INVALID : packed - packed % BRANCH_DIVISOR;
+    }
+
+    public static String decode(long packed) {
+        if (packed <= 0) {
+            throw new IllegalArgumentException("Not a packed SWIFT code: " + packed);
+        }
+        char[] chars = new char[MAX_LENGTH];
+        int length = 0;
+        for (int i = 0; i < MAX_LENGTH; i++) {
+            int digit = (int) (packed / POSITION_WEIGHTS[i] % RADIX);
+            if (digit == 0) {
+                break;
+            }
+            chars[length++] = toChar(digit);
+        }
+        return new String(chars, 0, length);
+    }
+
+    private static long encode(CharSequence code, int length) {
+        if (length == 0 || length > MAX_LENGTH) {
+            return INVALID;
+        }
+        long packed = 0;
+        for (int i = 0; i < length; i++) {
+            int digit = toDigit(code.charAt(i));
+            if (digit == 0) {
+                return INVALID;
+            }
+            packed += digit * POSITION_WEIGHTS[i];
+        }
+        return packed;
+    }
+
+    private static int toDigit(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0' + 1;
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return c - 'A' + 11;
+        }
+        return 0;
+    }
+
+    private static char toChar(int digit) {
+        return digit <= 10 ? (char) ('0' + digit - 1) : (char) ('A' + digit - 11);
+    }
+}
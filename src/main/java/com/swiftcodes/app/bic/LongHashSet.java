@@ -0,0 +1,72 @@
+package com.swiftcodes.app.bic;
+
+/**
+ * Open-addressing set of positive {@code long}s with linear probing, storing keys in a single array.
+ * Not thread-safe.
+ */
+public final class LongHashSet {
+
+    private static final long EMPTY = 0L;
+
+    private long[] keys;
+    private int size;
+
+    public LongHashSet() {
+        this(16);
+    }
+
+    public LongHashSet(int expectedSize) {
+        keys = new long[LongHashing.capacityFor(expectedSize)];
+    }
+
+    public boolean add(long key) {
+        LongHashing.requirePositive(key);
+        int mask = keys.length - 1;
+        int slot = LongHashing.slot(key, mask);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        if (++size > keys.length >>> 1) {
+            grow();
+        }
+        return true;
+    }
+
+    public boolean contains(long key) {
+        if (key <= 0) {
+            return false;
+        }
+        int mask = keys.length - 1;
+        int slot = LongHashing.slot(key, mask);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void grow() {
+        long[] old = keys;
+        keys = new long[old.length << 1];
+        int mask = keys.length - 1;
+        for (long key : old) {
+            if (key != EMPTY) {
+                int slot = LongHashing.slot(key, mask);
+                while (keys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.swiftcodes.app.bic;
+
+final class LongHashing {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private LongHashing() {
+    }
+
+    // Tables are kept at most half full.
+    static int capacityFor(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < 1 << 30 && capacity >>> 1 < expectedSize) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    // Packed codes differ mostly in their low digits, so the key is mixed before masking.
+    static int slot(long key, int mask) {
+        long z = key * 0x9E3779B97F4A7C15L;
+        return (int) (z ^ (z >>> 32)) & mask;
+    }
+
+    static void requirePositive(long key) {
+        if (key <= 0) {
+            throw new IllegalArgumentException("Keys must be positive: " + key);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.swiftcodes.app.bic;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Map keyed by SWIFT codes (or base codes) that stores encodable keys packed in a {@link LongObjectMap}.
+ * Uploaded files are only checked for length, so keys outside {@code [A-Z0-9]} are kept in a regular
+ * {@link HashMap}. Not thread-safe.
+ */
+public final class SwiftCodeMap<V> {
+
+    private final LongObjectMap<V> packed;
+    private final Map<String, V> irregular;
+
+    public SwiftCodeMap(int expectedSize) {
+        this.packed = new LongObjectMap<>(expectedSize);
+        this.irregular = new HashMap<>();
+    }
+
+    public SwiftCodeMap(SwiftCodeMap<V> other) {
+        this.packed = new LongObjectMap<>(other.packed);
+        this.irregular = new HashMap<>(other.irregular);
+    }
+
+    public V get(String code) {
+        long key = BicCodec.encode(code);
+        return key == BicCodec.INVALID ? irregular.get(code) : packed.get(key);
+    }
+
+    public V put(String code, V value) {
+        long key = BicCodec.encode(code);
+        return key == BicCodec.INVALID ? irregular.put(code, value) : packed.put(key, value);
+    }
+
+    public V remove(String code) {
+        long key = BicCodec.encode(code);
+        return key == BicCodec.INVALID ? irregular.remove(code) : packed.remove(key);
+    }
+
+    public int size() {
+        return packed.size() + irregular.size();
+    }
+
+    public void forEachValue(Consumer<? super V> action) {
+        packed.forEachValue(action);
+        irregular.values().forEach(action);
+    }
+}
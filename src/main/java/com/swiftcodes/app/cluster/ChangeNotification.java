@@ -0,0 +1,35 @@
+package com.swiftcodes.app.cluster;
+
+import com.swiftcodes.app.event.SwiftCodesChangedEvent;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+/**
+ * Payload of a change notification. {@code sequence} numbers every notification an instance sends,
+ * so receivers can tell when they have missed one. A heartbeat carries no change and repeats the
+ * sequence of the last notification, so a failed send is noticed even when no further change follows.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+class ChangeNotification {
+
+    private String instanceId;
+    private long sequence;
+    private boolean heartbeat;
+    private SwiftCodesChangedEvent.ChangeType type;
+    private Set<String> swiftCodes;
+    private Set<String> countryIso2Codes;
+
+    static ChangeNotification change(String instanceId, long sequence, SwiftCodesChangedEvent.ChangeType type,
+                                     Set<String> swiftCodes, Set<String> countryIso2Codes) {
+        return new ChangeNotification(instanceId, sequence, false, type, swiftCodes, countryIso2Codes);
+    }
+
+    static ChangeNotification heartbeat(String instanceId, long sequence) {
+        return new ChangeNotification(instanceId, sequence, true, null, Set.of(), Set.of());
+    }
+}
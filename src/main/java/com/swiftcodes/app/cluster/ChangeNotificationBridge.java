@@ -0,0 +1,237 @@
+package com.swiftcodes.app.cluster;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swiftcodes.app.config.ChangeNotificationProperties;
+import com.swiftcodes.app.event.SwiftCodesChangedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the caches and in-memory indexes of several instances sharing one database coherent. Committed
+ * local changes are queued and sent on a PostgreSQL {@code NOTIFY} channel by a sender thread over a
+ * connection of its own, so a committing writer never waits for another pooled connection; notifications
+ * from other instances are republished locally as remote {@link SwiftCodesChangedEvent}s, which every
+ * listener applies like its own. When a notification may have been missed (a gap in a sender's sequence,
+ * revealed by its next notification or heartbeat, or a lost connection), a remote {@code IMPORTED} event
+ * makes every local structure reload.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "swiftcodes.change-notifications.enabled", havingValue = "true")
+public class ChangeNotificationBridge {
+
+    // PostgreSQL rejects payloads of 8000 bytes or more.
+    static final int MAX_PAYLOAD_BYTES = 7999;
+
+    private final DataSource dataSource;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final ChangeNotificationProperties properties;
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Map<String, Long> lastSequences = new HashMap<>();
+    private final BlockingQueue<SwiftCodesChangedEvent> outgoing = new LinkedBlockingQueue<>();
+    // Only touched by the sender thread, which takes changes off the queue in commit order.
+    private long sequence;
+
+    private final Thread listener;
+    private final Thread sender;
+    private volatile boolean running;
+
+    public ChangeNotificationBridge(DataSource dataSource, ApplicationEventPublisher eventPublisher,
+                                    ObjectMapper objectMapper, ChangeNotificationProperties properties) {
+        if (!properties.getChannel().matches("[a-z_][a-z0-9_]*")) {
+            throw new IllegalStateException("Invalid change notification channel: " + properties.getChannel());
+        }
+        this.dataSource = dataSource;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.listener = Thread.ofPlatform().name("swift-change-listener").daemon().unstarted(this::listen);
+        this.sender = Thread.ofPlatform().name("swift-change-sender").daemon().unstarted(this::send);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        listener.start();
+        sender.start();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        listener.interrupt();
+        sender.interrupt();
+        listener.join(properties.getPollTimeout().toMillis() * 2);
+        sender.join(properties.getPollTimeout().toMillis() * 2);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSwiftCodesChanged(SwiftCodesChangedEvent event) {
+        if (!event.isRemote()) {
+            outgoing.add(event);
+        }
+    }
+
+    private void send() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection();
+                 PreparedStatement statement = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+                connection.setAutoCommit(true);
+                statement.setString(1, properties.getChannel());
+                // Announces right away any sequence number a failed send consumed.
+                String payload = heartbeatPayload();
+                while (running) {
+                    statement.setString(2, payload);
+                    statement.execute();
+                    payload = nextPayload(properties.getHeartbeatInterval());
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                // The change being sent keeps its sequence number; receivers reload once they see the gap.
+                log.error("Could not notify other instances of SWIFT code changes, reconnecting in {}",
+                        properties.getReconnectDelay(), e);
+                try {
+                    Thread.sleep(properties.getReconnectDelay());
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Takes the next queued change and numbers it, or returns a heartbeat when none arrives within
+     * {@code wait}.
+     */
+    String nextPayload(Duration wait) throws InterruptedException {
+        SwiftCodesChangedEvent event = outgoing.poll(wait.toMillis(), TimeUnit.MILLISECONDS);
+        if (event == null) {
+            return heartbeatPayload();
+        }
+        String payload = toJson(ChangeNotification.change(instanceId, ++sequence, event.getType(),
+                event.getSwiftCodes(), event.getCountryIso2Codes()));
+        if (payload.getBytes(StandardCharsets.UTF_8).length > MAX_PAYLOAD_BYTES) {
+            payload = toJson(ChangeNotification.change(instanceId, sequence,
+                    SwiftCodesChangedEvent.ChangeType.IMPORTED, Set.of(), Set.of()));
+        }
+        return payload;
+    }
+
+    private String heartbeatPayload() {
+        return toJson(ChangeNotification.heartbeat(instanceId, sequence));
+    }
+
+    private void listen() {
+        boolean connectedBefore = false;
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                connection.setAutoCommit(true);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + properties.getChannel());
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                log.info("Listening for SWIFT code changes on channel {}", properties.getChannel());
+
+                lastSequences.clear();
+                if (connectedBefore) {
+                    resync("listener reconnected");
+                }
+                connectedBefore = true;
+
+                int timeout = (int) properties.getPollTimeout().toMillis();
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(timeout);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            receive(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Change notification listener lost its connection, reconnecting in {}",
+                        properties.getReconnectDelay(), e);
+                try {
+                    Thread.sleep(properties.getReconnectDelay());
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+
+    void receive(String payload) {
+        ChangeNotification notification;
+        try {
+            notification = objectMapper.readValue(payload, ChangeNotification.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Ignoring malformed change notification: {}", payload);
+            return;
+        }
+        if (instanceId.equals(notification.getInstanceId())) {
+            return;
+        }
+
+        Long previous = lastSequences.put(notification.getInstanceId(), notification.getSequence());
+        long expected = notification.isHeartbeat() ? notification.getSequence() : notification.getSequence() - 1;
+        if (previous != null && previous != expected) {
+            resync("missed notifications from " + notification.getInstanceId());
+            return;
+        }
+        if (notification.isHeartbeat()) {
+            return;
+        }
+        log.debug("Applying {} from instance {}", notification.getType(), notification.getInstanceId());
+        eventPublisher.publishEvent(SwiftCodesChangedEvent.remote(notification.getType(),
+                notification.getSwiftCodes(), notification.getCountryIso2Codes()));
+    }
+
+    private void resync(String reason) {
+        log.info("Reloading local SWIFT code state: {}", reason);
+        eventPublisher.publishEvent(SwiftCodesChangedEvent.remote(SwiftCodesChangedEvent.ChangeType.IMPORTED,
+                Set.of(), Set.of()));
+    }
+
+    private String toJson(ChangeNotification notification) {
+        try {
+            return objectMapper.writeValueAsString(notification);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize change notification", e);
+        }
+    }
+
+    String getInstanceId() {
+        return instanceId;
+    }
+}
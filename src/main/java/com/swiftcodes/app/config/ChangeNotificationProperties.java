@@ -0,0 +1,28 @@
+package com.swiftcodes.app.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "swiftcodes.change-notifications")
+public class ChangeNotificationProperties {
+
+    /** Publishes local changes on a PostgreSQL channel and applies changes published by other instances. */
+    private boolean enabled = false;
+
+    private String channel = "swift_codes_changed";
+
+    /** Longest time the listener blocks waiting for notifications before checking its connection again. */
+    private Duration pollTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Longest time the sender stays silent. When no change was sent for this long it sends a heartbeat
+     * carrying its last sequence number, so other instances notice a notification that failed to send.
+     */
+    private Duration heartbeatInterval = Duration.ofSeconds(30);
+
+    /** Delay before reconnecting after the listening or sending connection is lost. */
+    private Duration reconnectDelay = Duration.ofSeconds(5);
+}
@@ -0,0 +1,15 @@
+package com.swiftcodes.app.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "swiftcodes.export")
+public class ExportProperties {
+
+    /** Rows fetched from the database cursor per round trip. */
+    private int fetchSize = 1000;
+
+    /** Rows written between explicit flushes of the response stream. */
+    private int flushEvery = 1000;
+}
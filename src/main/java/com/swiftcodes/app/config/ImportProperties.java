@@ -0,0 +1,64 @@
+package com.swiftcodes.app.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "swiftcodes.import")
+public class ImportProperties {
+
+    public enum Engine {
+        /** Parses the whole file, then persists through Spring Data {@code saveAll}. */
+        JPA,
+        /** Streams rows into a staging table with PostgreSQL {@code COPY} and merges them with set-based SQL. */
+        COPY,
+        /** Spools the upload and persists it in fixed-size chunks with constant heap usage. */
+        STREAMING,
+        /** Loads the upload into a shadow table, indexes it and swaps it in; codes missing from the file are removed. */
+        REPLACE,
+        /** Diffs the upload against the table and writes only inserted, changed and deleted codes. */
+        DELTA
+    }
+
+    private Engine engine = Engine.JPA;
+
+    /** Number of rows written per transaction by the streaming engine. */
+    private int chunkSize = 1000;
+
+    /** Longest time the {@code replace} engine waits for running queries before swapping tables. */
+    private Duration swapLockTimeout = Duration.ofSeconds(5);
+
+    private Async async = new Async();
+
+    private Parsing parsing = new Parsing();
+
+    @Data
+    public static class Async {
+        /** Imports running at the same time; further jobs wait in the queue. */
+        private int maxConcurrentJobs = 2;
+        /** Jobs allowed to wait before new submissions are rejected. */
+        private int queueCapacity = 10;
+        /** How long finished jobs stay visible through the status endpoint. */
+        private Duration jobRetention = Duration.ofHours(1);
+    }
+
+    @Data
+    public static class Parsing {
+
+        public enum Mode {
+            /** One thread reads the upload as a character stream. */
+            SEQUENTIAL,
+            /** The upload is memory-mapped, split at record boundaries and parsed on a fork-join pool. */
+            PARALLEL
+        }
+
+        private Mode mode = Mode.SEQUENTIAL;
+        /** Threads parsing one upload in {@code parallel} mode; 0 uses every available processor. */
+        private int parallelism = 0;
+        /** Approximate size of the slices an upload is split into in {@code parallel} mode. */
+        private DataSize chunkSize = DataSize.ofMegabytes(4);
+    }
+}
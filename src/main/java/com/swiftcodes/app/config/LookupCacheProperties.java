@@ -0,0 +1,23 @@
+package com.swiftcodes.app.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "swiftcodes.cache")
+public class LookupCacheProperties {
+
+    /** Caches lookups in front of the database; ignored in {@code read-model} lookup mode. */
+    private boolean enabled = true;
+
+    /** Maximum number of SWIFT code details kept in the cache. */
+    private long maximumSize = 10_000;
+
+    /** Maximum number of country listing pages kept in the cache. */
+    private long countryPagesMaximumSize = 1_000;
+
+    /** How long an entry may be served after it was loaded. */
+    private Duration timeToLive = Duration.ofMinutes(10);
+}
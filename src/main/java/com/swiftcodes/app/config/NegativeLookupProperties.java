@@ -0,0 +1,19 @@
+package com.swiftcodes.app.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "swiftcodes.negative-lookup")
+public class NegativeLookupProperties {
+
+    /**
+     * Answers lookups of codes that are definitely unknown without querying the database. The filter only
+     * learns codes written through this instance or announced by change notifications, so it follows
+     * {@code swiftcodes.change-notifications.enabled} unless set explicitly.
+     */
+    private boolean enabled = false;
+
+    /** Target probability that an unknown code still reaches the database. */
+    private double falsePositiveRate = 0.01;
+}
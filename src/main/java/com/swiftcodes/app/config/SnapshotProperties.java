@@ -0,0 +1,24 @@
+package com.swiftcodes.app.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "swiftcodes.snapshot")
+public class SnapshotProperties {
+
+    /**
+     * Condition for startup work that needs PostgreSQL, which {@code snapshot} lookup nodes run without.
+     */
+    public static final String DATABASE_MODE =
+            "@environment.getProperty('swiftcodes.lookup.mode', 'database') != 'snapshot'";
+
+    /** Snapshot file served in {@code snapshot} lookup mode. Replace it atomically (write elsewhere, then rename). */
+    private Path path = Path.of("swift-codes.snap");
+
+    /** How often the file is checked for a newer snapshot. */
+    private Duration pollInterval = Duration.ofSeconds(10);
+}
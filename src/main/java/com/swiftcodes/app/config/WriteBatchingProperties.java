@@ -0,0 +1,26 @@
+package com.swiftcodes.app.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "swiftcodes.write-batching")
+public class WriteBatchingProperties {
+
+    /** Coalesces concurrent single-code inserts into shared transactions; ignored in snapshot lookup mode. */
+    private boolean enabled = false;
+
+    /** Most inserts committed in one transaction. */
+    private int maxBatchSize = 64;
+
+    /** How long the first queued insert waits for others to join its batch. */
+    private Duration maxDelay = Duration.ofMillis(5);
+
+    /** Inserts that may wait for a batch at once; further requests are rejected. */
+    private int queueCapacity = 10_000;
+
+    /** Longest time a request waits for its batch to be written before it is answered with 503. */
+    private Duration timeout = Duration.ofSeconds(30);
+}
@@ -0,0 +1,28 @@
+package com.swiftcodes.app.controller;
+
+import com.swiftcodes.app.dto.CacheStatsDTO;
+import com.swiftcodes.app.service.CachingSwiftCodeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/v1/cache")
+@ConditionalOnExpression(CachingSwiftCodeService.ENABLED)
+@RequiredArgsConstructor
+public class CacheStatsController {
+
+    private final CachingSwiftCodeService cachingSwiftCodeService;
+
+
+    @GetMapping(value = "/stats", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<CacheStatsDTO>> getStats() {
+        return ResponseEntity.ok(cachingSwiftCodeService.getStats());
+    }
+}
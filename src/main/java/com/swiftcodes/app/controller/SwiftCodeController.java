@@ -1,21 +1,34 @@
 package com.swiftcodes.app.controller;
 
 import com.swiftcodes.app.dto.CountrySwiftCodesResponseDTO;
+import com.swiftcodes.app.dto.ImportJobDTO;
 import com.swiftcodes.app.dto.ResponseMessageDTO;
+import com.swiftcodes.app.dto.SwiftCodeLookupRequestDTO;
+import com.swiftcodes.app.dto.SwiftCodeLookupResponseDTO;
 import com.swiftcodes.app.dto.SwiftCodeRequestDTO;
 import com.swiftcodes.app.dto.SwiftCodeResponseDTO;
 import com.swiftcodes.app.dto.SwiftCodeFileResponseDTO;
+import com.swiftcodes.app.exception.InvalidDataException;
+import com.swiftcodes.app.export.ExportFormat;
+import com.swiftcodes.app.export.SwiftCodeExporter;
+import com.swiftcodes.app.service.ImportJobService;
 import com.swiftcodes.app.service.SwiftCodeFileService;
+import com.swiftcodes.app.service.SwiftCodeInsertBatcher;
 import com.swiftcodes.app.service.SwiftCodeService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Slf4j
 @RestController
@@ -23,12 +36,51 @@ import org.springframework.web.multipart.MultipartFile;
 @RequiredArgsConstructor
 public class SwiftCodeController {
 
+    private static final int DEFAULT_BRANCH_LIMIT = 100;
+    private static final int MAX_PAGE_SIZE = 1000;
+
     private final SwiftCodeService swiftCodeService;
     private final SwiftCodeFileService swiftCodeFileService;
+    private final ImportJobService importJobService;
+    private final SwiftCodeExporter swiftCodeExporter;
+    private final ObjectProvider<SwiftCodeInsertBatcher> insertBatcher;
+
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportSwiftCodes(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) String country) {
+        log.info("Received request to export SWIFT codes as {} for country: {}", format, country);
+        ExportFormat exportFormat = ExportFormat.from(format);
+        if (country != null && !country.matches("^[A-Z]{2}$")) {
+            throw new InvalidDataException("Country ISO2 code must be exactly 2 uppercase letters.");
+        }
+        if (country != null && exportFormat == ExportFormat.SNAPSHOT) {
+            throw new InvalidDataException("Snapshots always contain the whole directory; omit the country parameter.");
+        }
+
+        StreamingResponseBody body = outputStream -> swiftCodeExporter.export(exportFormat, country, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"swift-codes." + exportFormat.getFileExtension() + "\"")
+                .body(body);
+    }
 
 
     @GetMapping(value = "/{swiftCode}", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<SwiftCodeResponseDTO> getSwiftCode(@PathVariable String swiftCode) {
+    public ResponseEntity<SwiftCodeResponseDTO> getSwiftCode(
+            @PathVariable String swiftCode,
+            @RequestParam(required = false) Integer branchLimit,
+            @RequestParam(required = false) String branchCursor) {
+        if (branchLimit != null && branchLimit > MAX_PAGE_SIZE) {
+            throw new InvalidDataException("Branch limit must not exceed " + MAX_PAGE_SIZE + ".");
+        }
+        if (branchLimit != null || branchCursor != null) {
+            int limit = branchLimit != null ? branchLimit : DEFAULT_BRANCH_LIMIT;
+            log.info("Received request to get details for SWIFT code: {} with up to {} branches", swiftCode, limit);
+            return ResponseEntity.ok(swiftCodeService.getSwiftCode(swiftCode, limit, branchCursor));
+        }
         log.info("Received request to get details for SWIFT code: {}", swiftCode);
         SwiftCodeResponseDTO dto = swiftCodeService.getSwiftCode(swiftCode);
         return ResponseEntity.ok(dto);
@@ -39,18 +91,40 @@ public class SwiftCodeController {
     public ResponseEntity<CountrySwiftCodesResponseDTO> getSwiftCodesByCountry(
             @PathVariable String countryISO2,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor) {
+        if (size > MAX_PAGE_SIZE) {
+            throw new InvalidDataException("Page size must not exceed " + MAX_PAGE_SIZE + ".");
+        }
+        if (cursor != null) {
+            log.info("Received request to get SWIFT codes for country: {} after cursor, size: {}", countryISO2, size);
+            return ResponseEntity.ok(swiftCodeService.getSwiftCodesByCountry(countryISO2, cursor, size));
+        }
         log.info("Received request to get SWIFT codes for country: {}, page: {}, size: {}", countryISO2, page, size);
-        Pageable pageable = PageRequest.of(page, size);
+        Pageable pageable = PageRequest.of(page, size, Sort.by("swiftCode"));
         CountrySwiftCodesResponseDTO dto = swiftCodeService.getSwiftCodesByCountry(countryISO2, pageable);
         return ResponseEntity.ok(dto);
     }
 
 
+    @PostMapping(value = "/lookup", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<SwiftCodeLookupResponseDTO> lookupSwiftCodes(@Valid @RequestBody SwiftCodeLookupRequestDTO lookupRequestDTO) {
+        log.info("Received request to look up {} SWIFT codes", lookupRequestDTO.getSwiftCodes().size());
+        SwiftCodeLookupResponseDTO dto = swiftCodeService.lookupSwiftCodes(lookupRequestDTO.getSwiftCodes());
+        return ResponseEntity.ok(dto);
+    }
+
+
     @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<ResponseMessageDTO> addSwiftCode(@Valid @RequestBody SwiftCodeRequestDTO swiftCodeRequestDTO) {
         log.info("Received request to add new SWIFT code: {}", swiftCodeRequestDTO.getSwiftCode());
-        swiftCodeService.addSwiftCode(swiftCodeRequestDTO);
+        // With write batching on, the insert joins a shared transaction with concurrent requests.
+        SwiftCodeInsertBatcher batcher = insertBatcher.getIfAvailable();
+        if (batcher != null) {
+            batcher.addSwiftCode(swiftCodeRequestDTO);
+        } else {
+            swiftCodeService.addSwiftCode(swiftCodeRequestDTO);
+        }
         return ResponseEntity.ok(new ResponseMessageDTO("SWIFT code added successfully"));
     }
 
@@ -69,4 +143,19 @@ public class SwiftCodeController {
         SwiftCodeFileResponseDTO responseDTO = swiftCodeFileService.parseAndSaveSwiftCodes(file);
         return ResponseEntity.ok(responseDTO);
     }
+
+
+    @PostMapping(value = "/imports", consumes = MediaType.MULTIPART_FORM_DATA_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ImportJobDTO> submitImport(@RequestParam("file") MultipartFile file) {
+        log.info("Received request to import a CSV file asynchronously");
+        ImportJobDTO job = importJobService.submit(file);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    }
+
+
+    @GetMapping(value = "/imports/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ImportJobDTO> getImport(@PathVariable String id) {
+        log.info("Received request to get status of import job: {}", id);
+        return ResponseEntity.ok(importJobService.getJob(id));
+    }
 }
@@ -1,5 +1,6 @@
 package com.swiftcodes.app.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.Data;
@@ -18,4 +19,7 @@ public class CountrySwiftCodesResponseDTO {
 
 
     private List<SwiftCodeResponseDTO> swiftCodes;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
 }
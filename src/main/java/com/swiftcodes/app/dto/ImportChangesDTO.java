@@ -0,0 +1,13 @@
+package com.swiftcodes.app.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class ImportChangesDTO {
+    private int inserted;
+    private int updated;
+    private int deleted;
+    private int unchanged;
+}
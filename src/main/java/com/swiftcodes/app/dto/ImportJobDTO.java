@@ -0,0 +1,30 @@
+package com.swiftcodes.app.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ImportJobDTO {
+    private String id;
+    private String status;
+    private String fileName;
+    private Instant submittedAt;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private long rowsParsed;
+    private long skippedRecords;
+    private long headquartersSaved;
+    private long branchesSaved;
+    private double rowsPerSecond;
+    private SwiftCodeFileResponseDTO result;
+    private String error;
+}
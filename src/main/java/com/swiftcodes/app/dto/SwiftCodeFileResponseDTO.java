@@ -1,5 +1,6 @@
 package com.swiftcodes.app.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Data;
 import lombok.AllArgsConstructor;
@@ -18,4 +19,13 @@ public class SwiftCodeFileResponseDTO {
     private int newCountries;
     private int headquartersSaved;
     private int branchesSaved;
+
+    // Only reported by the delta import engine.
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private ImportChangesDTO changes;
+
+    public SwiftCodeFileResponseDTO(int processedRecords, int skippedRecords, int newCountries,
+                                    int headquartersSaved, int branchesSaved) {
+        this(processedRecords, skippedRecords, newCountries, headquartersSaved, branchesSaved, null);
+    }
 }
@@ -0,0 +1,21 @@
+package com.swiftcodes.app.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SwiftCodeLookupRequestDTO {
+    @NotEmpty(message = "At least one SWIFT code is required")
+    @Size(max = 1000, message = "At most 1000 SWIFT codes can be looked up per request")
+    private List<@NotBlank(message = "Swift code cannot be blank") String> swiftCodes;
+}
@@ -0,0 +1,16 @@
+package com.swiftcodes.app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SwiftCodeLookupResponseDTO {
+    private Map<String, SwiftCodeResponseDTO> found;
+    private List<String> missing;
+}
@@ -12,7 +12,7 @@ import java.util.ArrayList;
 @AllArgsConstructor
 @Builder
 @JsonInclude(JsonInclude.Include.NON_EMPTY)
-@JsonPropertyOrder({ "swiftCode", "bankName", "address", "countryISO2", "countryName", "isHeadquarter", "branches" })
+@JsonPropertyOrder({ "swiftCode", "bankName", "address", "countryISO2", "countryName", "isHeadquarter", "branchCount", "branches", "nextBranchCursor" })
 public class SwiftCodeResponseDTO {
     private String swiftCode;
     private String bankName;
@@ -20,5 +20,7 @@ public class SwiftCodeResponseDTO {
     private String countryISO2;
     private String countryName;
     private Boolean isHeadquarter;
+    private Integer branchCount;
     private List<SwiftCodeResponseDTO> branches = new ArrayList<>();
+    private String nextBranchCursor;
 }
@@ -0,0 +1,37 @@
+package com.swiftcodes.app.event;
+
+import lombok.Value;
+
+import java.util.Set;
+
+@Value
+public class SwiftCodesChangedEvent {
+
+    public enum ChangeType {
+        UPSERTED,
+        DELETED,
+        IMPORTED
+    }
+
+    ChangeType type;
+    Set<String> swiftCodes;
+    Set<String> countryIso2Codes;
+    /** True when the change was made by another instance and is only being applied to local state. */
+    boolean remote;
+
+    public static SwiftCodesChangedEvent upserted(String swiftCode, String countryIso2Code) {
+        return new SwiftCodesChangedEvent(ChangeType.UPSERTED, Set.of(swiftCode), Set.of(countryIso2Code), false);
+    }
+
+    public static SwiftCodesChangedEvent deleted(String swiftCode, String countryIso2Code) {
+        return new SwiftCodesChangedEvent(ChangeType.DELETED, Set.of(swiftCode), Set.of(countryIso2Code), false);
+    }
+
+    public static SwiftCodesChangedEvent imported() {
+        return new SwiftCodesChangedEvent(ChangeType.IMPORTED, Set.of(), Set.of(), false);
+    }
+
+    public static SwiftCodesChangedEvent remote(ChangeType type, Set<String> swiftCodes, Set<String> countryIso2Codes) {
+        return new SwiftCodesChangedEvent(type, Set.copyOf(swiftCodes), Set.copyOf(countryIso2Codes), true);
+    }
+}
@@ -0,0 +1,13 @@
+package com.swiftcodes.app.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class ImportRejectedException extends RuntimeException {
+    public ImportRejectedException(String message) {
+        super(message);
+    }
+
+
+}
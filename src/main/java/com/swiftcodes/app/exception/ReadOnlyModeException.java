@@ -0,0 +1,13 @@
+package com.swiftcodes.app.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.METHOD_NOT_ALLOWED)
+public class ReadOnlyModeException extends RuntimeException {
+    public ReadOnlyModeException(String message) {
+        super(message);
+    }
+
+
+}
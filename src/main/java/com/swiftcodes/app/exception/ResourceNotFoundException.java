@@ -9,5 +9,9 @@ public class ResourceNotFoundException extends RuntimeException {
         super(message);
     }
 
+    // Thrown for every probe of an unknown code, so filling in a stack trace would dominate the cost of a miss.
+    public ResourceNotFoundException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
 
 }
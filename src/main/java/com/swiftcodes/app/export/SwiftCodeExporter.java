@@ -0,0 +1,204 @@
+package com.swiftcodes.app.export;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.swiftcodes.app.config.ExportProperties;
+import com.swiftcodes.app.importer.SwiftCodeCsvReader;
+import com.swiftcodes.app.model.SwiftCode;
+import com.swiftcodes.app.snapshot.SnapshotWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streams the SWIFT directory straight from a forward-only JDBC cursor to an output stream.
+ * Rows are written as they arrive, so memory use does not depend on the size of the table.
+ */
+@Slf4j
+@Component
+public class SwiftCodeExporter {
+
+    private static final String EXPORT_QUERY = """
+            SELECT s.swift_code, s.name, s.address, s.country_iso2_code, c.country_name, s.is_headquarter
+            FROM swift_codes s
+            LEFT JOIN countries c ON c.country_iso2_code = s.country_iso2_code
+            """;
+
+    private static final String SNAPSHOT_QUERY =
+            "SELECT swift_code, name, address, country_iso2_code, is_headquarter FROM swift_codes";
+
+    private static final String COUNTRIES_QUERY = "SELECT country_iso2_code, country_name FROM countries";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ExportProperties exportProperties;
+
+    public SwiftCodeExporter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                             ExportProperties exportProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.exportProperties = exportProperties;
+        // PostgreSQL only honours the fetch size inside a transaction; otherwise the whole result is buffered.
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Writes every SWIFT code, or those of {@code countryIso2Code} when it is not null, ordered by code.
+     */
+    public long export(ExportFormat format, String countryIso2Code, OutputStream outputStream) throws IOException {
+        if (format == ExportFormat.SNAPSHOT) {
+            return exportSnapshot(outputStream);
+        }
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        RowWriter rowWriter = format == ExportFormat.CSV ? new CsvRowWriter(writer) : new NdjsonRowWriter(writer);
+
+        String sql = EXPORT_QUERY
+                + (countryIso2Code != null ? "WHERE s.country_iso2_code = ?\n" : "")
+                + "ORDER BY s.swift_code";
+        long[] rows = {0};
+        int flushEvery = exportProperties.getFlushEvery();
+
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                        sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(exportProperties.getFetchSize());
+                if (countryIso2Code != null) {
+                    statement.setString(1, countryIso2Code);
+                }
+                return statement;
+            }, (RowCallbackHandler) resultSet -> {
+                try {
+                    rowWriter.write(resultSet);
+                    if (++rows[0] % flushEvery == 0) {
+                        writer.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        rowWriter.finish();
+        writer.flush();
+        log.info("Exported {} SWIFT codes as {}", rows[0], format);
+        return rows[0];
+    }
+
+    /**
+     * Writes the whole directory as a binary snapshot for {@code snapshot} lookup nodes. The format is indexed,
+     * so unlike the text formats it is built in memory before being written.
+     */
+    private long exportSnapshot(OutputStream outputStream) throws IOException {
+        List<SwiftCode> codes = new ArrayList<>();
+        Map<String, String> countryNames = new HashMap<>();
+        readOnlyTransaction.executeWithoutResult(status -> {
+            jdbcTemplate.query(SNAPSHOT_QUERY, (RowCallbackHandler) resultSet -> {
+                SwiftCode code = new SwiftCode();
+                code.setSwiftCode(resultSet.getString("swift_code"));
+                code.setBankName(resultSet.getString("name"));
+                code.setAddress(resultSet.getString("address"));
+                code.setCountryIso2Code(resultSet.getString("country_iso2_code"));
+                code.setIsHeadquarter(resultSet.getBoolean("is_headquarter"));
+                codes.add(code);
+            });
+            jdbcTemplate.query(COUNTRIES_QUERY, (RowCallbackHandler) resultSet ->
+                    countryNames.put(resultSet.getString("country_iso2_code"), resultSet.getString("country_name")));
+        });
+
+        int written = SnapshotWriter.write(codes, countryNames, outputStream);
+        log.info("Exported {} SWIFT codes as {}", written, ExportFormat.SNAPSHOT);
+        return written;
+    }
+
+    private interface RowWriter {
+        void write(ResultSet resultSet) throws SQLException, IOException;
+
+        void finish() throws IOException;
+    }
+
+    // Same columns as the import format, so an export can be uploaded again as-is.
+    private static final class CsvRowWriter implements RowWriter {
+
+        private final CSVPrinter printer;
+
+        CsvRowWriter(Writer writer) throws IOException {
+            this.printer = new CSVPrinter(writer, CSVFormat.DEFAULT.builder()
+                    .setHeader(SwiftCodeCsvReader.REQUIRED_HEADERS.toArray(String[]::new))
+                    .setRecordSeparator('\n')
+                    .build());
+        }
+
+        @Override
+        public void write(ResultSet resultSet) throws SQLException, IOException {
+            printer.printRecord(
+                    resultSet.getString("country_iso2_code"),
+                    resultSet.getString("swift_code"),
+                    resultSet.getString("name"),
+                    resultSet.getString("address"),
+                    resultSet.getString("country_name"));
+        }
+
+        @Override
+        public void finish() throws IOException {
+            printer.flush();
+        }
+    }
+
+    private static final class NdjsonRowWriter implements RowWriter {
+
+        private final JsonGenerator generator;
+        private boolean written;
+
+        NdjsonRowWriter(Writer writer) throws IOException {
+            this.generator = new JsonFactory().createGenerator(writer);
+            this.generator.setPrettyPrinter(new MinimalPrettyPrinter("\n"));
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        }
+
+        @Override
+        public void write(ResultSet resultSet) throws SQLException, IOException {
+            generator.writeStartObject();
+            generator.writeStringField("swiftCode", resultSet.getString("swift_code"));
+            generator.writeStringField("bankName", resultSet.getString("name"));
+            generator.writeStringField("address", resultSet.getString("address"));
+            generator.writeStringField("countryISO2", resultSet.getString("country_iso2_code"));
+            generator.writeStringField("countryName", resultSet.getString("country_name"));
+            generator.writeBooleanField("isHeadquarter", resultSet.getBoolean("is_headquarter"));
+            generator.writeEndObject();
+            written = true;
+        }
+
+        @Override
+        public void finish() throws IOException {
+            // Terminate the last record like every other one.
+            if (written) {
+                generator.writeRaw('\n');
+            }
+            generator.flush();
+        }
+    }
+}
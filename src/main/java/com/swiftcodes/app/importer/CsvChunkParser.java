@@ -0,0 +1,209 @@
+package com.swiftcodes.app.importer;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Byte-level CSV parser for one slice of a mapped upload, matching the dialect {@link SwiftCodeCsvReader}
+ * accepts: comma separated, {@code "}-quoted fields with {@code ""} escapes, LF/CRLF record separators,
+ * empty lines ignored and every value trimmed. Only the columns the import needs are materialized, and
+ * ASCII values (almost all of them) are upper-cased in place and turned into strings without decoding.
+ */
+final class CsvChunkParser {
+
+    static final int SWIFT_CODE = 0;
+    static final int NAME = 1;
+    static final int ADDRESS = 2;
+    static final int COUNTRY_ISO2 = 3;
+    static final int COUNTRY_NAME = 4;
+    static final int SLOTS = 5;
+
+    private final ByteBuffer buffer;
+    private final int limit;
+    private final int[] slotOfColumn;
+    private final int columnsNeeded;
+    private final String[] values = new String[SLOTS];
+
+    private int position;
+    private int fieldCount;
+    private byte[] scratch = new byte[128];
+    private int length;
+    private boolean ascii;
+
+    /**
+     * @param slotOfColumn for every column of the file, the slot its value goes to, or -1 to skip it
+     */
+    CsvChunkParser(ByteBuffer buffer, int[] slotOfColumn) {
+        this.buffer = buffer;
+        this.limit = buffer.limit();
+        this.slotOfColumn = slotOfColumn;
+        int needed = 0;
+        for (int column = 0; column < slotOfColumn.length; column++) {
+            if (slotOfColumn[column] >= 0) {
+                needed = column + 1;
+            }
+        }
+        this.columnsNeeded = needed;
+    }
+
+    /**
+     * Reads the next record as a header and returns its trimmed, upper-cased column names.
+     */
+    List<String> readHeader() {
+        List<String> names = new ArrayList<>();
+        if (!skipEmptyLines()) {
+            return names;
+        }
+        do {
+            readField(true);
+            names.add(materialize(true));
+        } while (endField());
+        return names;
+    }
+
+    int position() {
+        return position;
+    }
+
+    boolean atEnd() {
+        return position >= limit;
+    }
+
+    /**
+     * Advances to the next record; returns false when the slice is exhausted.
+     */
+    boolean next() {
+        if (!skipEmptyLines()) {
+            return false;
+        }
+        Arrays.fill(values, null);
+        int column = 0;
+        while (true) {
+            int slot = column < slotOfColumn.length ? slotOfColumn[column] : -1;
+            readField(slot >= 0);
+            if (slot >= 0) {
+                values[slot] = materialize(slot != SWIFT_CODE);
+            }
+            column++;
+            if (!endField()) {
+                break;
+            }
+        }
+        fieldCount = column;
+        return true;
+    }
+
+    /** True when the current record has every needed column. */
+    boolean complete() {
+        return fieldCount >= columnsNeeded;
+    }
+
+    String value(int slot) {
+        return values[slot];
+    }
+
+    /** The current record as a row, or null when its SWIFT code does not have 11 characters. */
+    SwiftCodeRow row() {
+        String swiftCode = values[SWIFT_CODE];
+        if (swiftCode.length() != 11) {
+            return null;
+        }
+        return new SwiftCodeRow(swiftCode, values[NAME], values[ADDRESS], values[COUNTRY_ISO2],
+                values[COUNTRY_NAME], swiftCode.endsWith("XXX"));
+    }
+
+    private boolean skipEmptyLines() {
+        while (position < limit) {
+            byte b = buffer.get(position);
+            if (b != '\n' && b != '\r') {
+                return true;
+            }
+            position++;
+        }
+        return false;
+    }
+
+    // Consumes the delimiter after a field; returns true when another field of the same record follows.
+    private boolean endField() {
+        if (position >= limit) {
+            return false;
+        }
+        byte b = buffer.get(position++);
+        if (b == ',') {
+            return true;
+        }
+        if (b == '\r' && position < limit && buffer.get(position) == '\n') {
+            position++;
+        }
+        return false;
+    }
+
+    private void readField(boolean keep) {
+        length = 0;
+        ascii = true;
+        if (position < limit && buffer.get(position) == '"') {
+            position++;
+            while (position < limit) {
+                byte b = buffer.get(position++);
+                if (b == '"') {
+                    if (position < limit && buffer.get(position) == '"') {
+                        position++;
+                    } else {
+                        break;
+                    }
+                }
+                if (keep) {
+                    append(b);
+                }
+            }
+        }
+        while (position < limit) {
+            byte b = buffer.get(position);
+            if (b == ',' || b == '\n' || b == '\r') {
+                break;
+            }
+            if (keep) {
+                append(b);
+            }
+            position++;
+        }
+    }
+
+    private void append(byte b) {
+        if (length == scratch.length) {
+            scratch = Arrays.copyOf(scratch, length * 2);
+        }
+        scratch[length++] = b;
+        if (b < 0) {
+            ascii = false;
+        }
+    }
+
+    // Trims like String.trim(): UTF-8 continuation bytes are never below 0x80, so byte-wise trimming is exact.
+    private String materialize(boolean upperCase) {
+        int start = 0;
+        int end = length;
+        while (start < end && (scratch[start] & 0xFF) <= ' ') {
+            start++;
+        }
+        while (end > start && (scratch[end - 1] & 0xFF) <= ' ') {
+            end--;
+        }
+        if (!ascii) {
+            String value = new String(scratch, start, end - start, StandardCharsets.UTF_8);
+            return upperCase ? value.toUpperCase() : value;
+        }
+        if (upperCase) {
+            for (int i = start; i < end; i++) {
+                byte b = scratch[i];
+                if (b >= 'a' && b <= 'z') {
+                    scratch[i] = (byte) (b - ('a' - 'A'));
+                }
+            }
+        }
+        return new String(scratch, start, end - start, StandardCharsets.ISO_8859_1);
+    }
+}
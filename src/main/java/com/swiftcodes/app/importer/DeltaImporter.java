@@ -0,0 +1,156 @@
+package com.swiftcodes.app.importer;
+
+import com.swiftcodes.app.dto.ImportChangesDTO;
+import com.swiftcodes.app.dto.SwiftCodeFileResponseDTO;
+import com.swiftcodes.app.exception.InvalidDataException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.InputStream;
+import java.util.Map;
+
+/**
+ * Import engine for full-directory refreshes that rarely change much. The upload is staged with
+ * {@code COPY} and diffed against {@code swift_codes} inside the database: only new codes are inserted,
+ * only codes whose name, address, country or headquarters flag differ are updated, and codes missing
+ * from the file are deleted. Unchanged rows are never rewritten, so they cause no WAL, index or
+ * vacuum work. The whole import runs in a single transaction; an upload without a single valid code is
+ * rejected rather than read as an empty directory.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeltaImporter {
+
+    // Concurrent adds and deletes would race the diff (an add committed between the delete and the insert
+    // breaks the insert), so they wait for the import; lookups keep reading.
+    private static final String LOCK_WRITERS = "LOCK TABLE swift_codes IN EXCLUSIVE MODE";
+
+    // The file is the whole directory, so a branch needs its headquarters in the same file.
+    private static final String CREATE_INCOMING_TABLE = """
+            CREATE TEMPORARY TABLE swift_codes_incoming ON COMMIT DROP AS
+            SELECT l.swift_code, l.name, l.address, l.country_iso2_code, l.is_headquarter
+            FROM (SELECT DISTINCT ON (swift_code) swift_code, name, address, country_iso2_code, is_headquarter
+                  FROM swift_codes_staging
+                  ORDER BY swift_code, row_no DESC) l
+            WHERE l.is_headquarter
+               OR EXISTS (SELECT 1 FROM swift_codes_staging h
+                          WHERE h.is_headquarter AND left(h.swift_code, 8) = left(l.swift_code, 8))""";
+
+    private static final String INDEX_INCOMING_TABLE =
+            "CREATE UNIQUE INDEX ON swift_codes_incoming (swift_code)";
+
+    private static final String COUNT_DISTINCT_STAGED =
+            "SELECT count(DISTINCT swift_code) FROM swift_codes_staging";
+
+    private static final String COUNT_INCOMING = "SELECT count(*) FROM swift_codes_incoming";
+
+    private static final String INSERT_COUNTRIES = """
+            INSERT INTO countries (country_iso2_code, country_name)
+            SELECT DISTINCT ON (country_iso2_code) country_iso2_code, COALESCE(NULLIF(country_name, ''), country_iso2_code)
+            FROM swift_codes_staging
+            ORDER BY country_iso2_code, row_no
+            ON CONFLICT (country_iso2_code) DO NOTHING""";
+
+    private static final String DELETE_MISSING = """
+            DELETE FROM swift_codes s
+            WHERE NOT EXISTS (SELECT 1 FROM swift_codes_incoming i WHERE i.swift_code = s.swift_code)""";
+
+    // Rows written by other engines may hold NULL where the upload has an empty address.
+    private static final String UPDATE_CHANGED = """
+            WITH updated AS (
+                UPDATE swift_codes s SET
+                    name = i.name,
+                    address = i.address,
+                    country_iso2_code = i.country_iso2_code,
+                    is_headquarter = i.is_headquarter
+                FROM swift_codes_incoming i
+                WHERE s.swift_code = i.swift_code
+                  AND (s.name, COALESCE(s.address, ''), s.country_iso2_code, s.is_headquarter)
+                      IS DISTINCT FROM (i.name, COALESCE(i.address, ''), i.country_iso2_code, i.is_headquarter)
+                RETURNING s.is_headquarter)
+            SELECT count(*) FILTER (WHERE is_headquarter) AS headquarters,
+                   count(*) FILTER (WHERE NOT is_headquarter) AS branches
+            FROM updated""";
+
+    private static final String INSERT_NEW = """
+            WITH inserted AS (
+                INSERT INTO swift_codes (swift_code, name, address, country_iso2_code, is_headquarter)
+                SELECT i.swift_code, i.name, i.address, i.country_iso2_code, i.is_headquarter
+                FROM swift_codes_incoming i
+                WHERE NOT EXISTS (SELECT 1 FROM swift_codes s WHERE s.swift_code = i.swift_code)
+                RETURNING is_headquarter)
+            SELECT count(*) FILTER (WHERE is_headquarter) AS headquarters,
+                   count(*) FILTER (WHERE NOT is_headquarter) AS branches
+            FROM inserted""";
+
+    private final StagingTableLoader stagingTableLoader;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public SwiftCodeFileResponseDTO importCsv(InputStream inputStream, SwiftCodeCsvReader csvReader, ImportProgress progress) {
+        return transactionTemplate.execute(status -> {
+            long start = System.nanoTime();
+            SwiftCodeCsvReader.Summary summary = stagingTableLoader.load(inputStream, csvReader, progress);
+
+            jdbcTemplate.execute(CREATE_INCOMING_TABLE);
+            jdbcTemplate.execute(INDEX_INCOMING_TABLE);
+            jdbcTemplate.execute("ANALYZE swift_codes_incoming");
+            int incoming = count(COUNT_INCOMING);
+            int orphanBranches = count(COUNT_DISTINCT_STAGED) - incoming;
+            if (orphanBranches > 0) {
+                log.warn("Skipping {} branches without matching headquarters.", orphanBranches);
+                progress.recordSkipped(orphanBranches);
+            }
+            if (incoming == 0) {
+                throw new InvalidDataException("File contains no valid SWIFT codes; the directory was left unchanged.");
+            }
+
+            int newCountries = jdbcTemplate.update(INSERT_COUNTRIES);
+            log.info("Saved {} new countries to database.", newCountries);
+
+            jdbcTemplate.execute(LOCK_WRITERS);
+            int deleted = jdbcTemplate.update(DELETE_MISSING);
+            Map<String, Object> updated = jdbcTemplate.queryForMap(UPDATE_CHANGED);
+            Map<String, Object> inserted = jdbcTemplate.queryForMap(INSERT_NEW);
+
+            int headquartersSaved = intValue(updated, "headquarters") + intValue(inserted, "headquarters");
+            int branchesSaved = intValue(updated, "branches") + intValue(inserted, "branches");
+            progress.recordHeadquartersSaved(headquartersSaved);
+            progress.recordBranchesSaved(branchesSaved);
+
+            int insertedCodes = intValue(inserted, "headquarters") + intValue(inserted, "branches");
+            int updatedCodes = intValue(updated, "headquarters") + intValue(updated, "branches");
+            ImportChangesDTO changes = ImportChangesDTO.builder()
+                    .inserted(insertedCodes)
+                    .updated(updatedCodes)
+                    .deleted(deleted)
+                    .unchanged(incoming - insertedCodes - updatedCodes)
+                    .build();
+
+            log.info("Delta import inserted {}, updated {}, deleted {} and left {} SWIFT codes unchanged in {} ms",
+                    changes.getInserted(), changes.getUpdated(), changes.getDeleted(), changes.getUnchanged(),
+                    (System.nanoTime() - start) / 1_000_000);
+            return new SwiftCodeFileResponseDTO(
+                    summary.getTotalRecords(),
+                    summary.getSkippedRecords() + Math.max(orphanBranches, 0),
+                    newCountries,
+                    headquartersSaved,
+                    branchesSaved,
+                    changes
+            );
+        });
+    }
+
+    private int count(String sql) {
+        Integer count = jdbcTemplate.queryForObject(sql, Integer.class);
+        return count == null ? 0 : count;
+    }
+
+    private static int intValue(Map<String, Object> counts, String column) {
+        return ((Number) counts.get(column)).intValue();
+    }
+}
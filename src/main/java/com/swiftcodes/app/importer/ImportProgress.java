@@ -0,0 +1,50 @@
+package com.swiftcodes.app.importer;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Live counters of a running import. Written by the import thread, readable from any thread.
+ */
+public class ImportProgress {
+
+    private final AtomicLong rowsParsed = new AtomicLong();
+    private final AtomicLong skippedRecords = new AtomicLong();
+    private final AtomicLong headquartersSaved = new AtomicLong();
+    private final AtomicLong branchesSaved = new AtomicLong();
+
+    public void recordParsed() {
+        rowsParsed.incrementAndGet();
+    }
+
+    public void recordParsed(long count) {
+        rowsParsed.addAndGet(count);
+    }
+
+    public void recordSkipped(long count) {
+        skippedRecords.addAndGet(count);
+    }
+
+    public void recordHeadquartersSaved(long count) {
+        headquartersSaved.addAndGet(count);
+    }
+
+    public void recordBranchesSaved(long count) {
+        branchesSaved.addAndGet(count);
+    }
+
+    public long getRowsParsed() {
+        return rowsParsed.get();
+    }
+
+    public long getSkippedRecords() {
+        return skippedRecords.get();
+    }
+
+    public long getHeadquartersSaved() {
+        return headquartersSaved.get();
+    }
+
+    public long getBranchesSaved() {
+        return branchesSaved.get();
+    }
+}
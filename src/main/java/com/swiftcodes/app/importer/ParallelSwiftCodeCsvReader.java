@@ -0,0 +1,221 @@
+package com.swiftcodes.app.importer;
+
+import com.swiftcodes.app.config.ImportProperties;
+import com.swiftcodes.app.exception.InvalidDataException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+
+/**
+ * {@link SwiftCodeCsvReader} that memory-maps the upload, cuts it into slices at record boundaries and
+ * parses the slices on a fork-join pool. Rows still reach the consumer one at a time, in file order,
+ * on the calling thread, so import engines use it unchanged. At most two slices per worker are parsed
+ * ahead of the consumer, which bounds the memory held by parsed rows.
+ */
+@Slf4j
+@Component
+public class ParallelSwiftCodeCsvReader extends SwiftCodeCsvReader {
+
+    private static final int HEADER_WINDOW = 64 * 1024;
+    private static final long MAX_CHUNK_SIZE = 1L << 30;
+
+    // Scanner states for finding record boundaries.
+    private static final int FIELD_START = 0;
+    private static final int UNQUOTED = 1;
+    private static final int QUOTED = 2;
+    private static final int QUOTE_IN_QUOTED = 3;
+
+    private final ForkJoinPool pool;
+    private final long chunkSize;
+
+    public ParallelSwiftCodeCsvReader(ImportProperties importProperties) {
+        ImportProperties.Parsing parsing = importProperties.getParsing();
+        int parallelism = parsing.getParallelism() > 0
+                ? parsing.getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(parallelism);
+        this.chunkSize = Math.clamp(parsing.getChunkSize().toBytes(), 1, MAX_CHUNK_SIZE);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    @Override
+    public Summary read(InputStream inputStream, ImportProgress progress, Consumer<SwiftCodeRow> consumer) throws IOException {
+        if (inputStream instanceof FileInputStream fileInputStream) {
+            return read(fileInputStream.getChannel(), progress, consumer);
+        }
+        // Only files can be mapped, so any other stream is spooled first.
+        Path spooled = Files.createTempFile("swift-codes-", ".csv");
+        try {
+            Files.copy(inputStream, spooled, StandardCopyOption.REPLACE_EXISTING);
+            try (FileChannel channel = FileChannel.open(spooled, StandardOpenOption.READ)) {
+                return read(channel, progress, consumer);
+            }
+        } finally {
+            Files.deleteIfExists(spooled);
+        }
+    }
+
+    private Summary read(FileChannel channel, ImportProgress progress, Consumer<SwiftCodeRow> consumer) throws IOException {
+        long size = channel.size();
+        long position = channel.position();
+        List<String> header = List.of();
+        long dataStart = position;
+        if (position < size) {
+            int window = (int) Math.min(HEADER_WINDOW, size - position);
+            CsvChunkParser headerParser = new CsvChunkParser(
+                    channel.map(FileChannel.MapMode.READ_ONLY, position, window), new int[0]);
+            header = headerParser.readHeader();
+            if (headerParser.atEnd() && window < size - position) {
+                throw new InvalidDataException("CSV header is too long.");
+            }
+            dataStart = position + headerParser.position();
+        }
+        int[] slots = slotOfColumn(header);
+
+        int maxInFlight = pool.getParallelism() * 2;
+        Deque<ForkJoinTask<Chunk>> inFlight = new ArrayDeque<>();
+        int[] counters = new int[2]; // total records, skipped records
+
+        try {
+            long chunkStart = dataStart;
+            while (chunkStart < size) {
+                long chunkEnd = recordBoundaryAfter(channel, chunkStart, chunkStart + chunkSize, size);
+                if (chunkEnd - chunkStart > Integer.MAX_VALUE) {
+                    throw new InvalidDataException("CSV record is too long.");
+                }
+                long start = chunkStart;
+                int length = (int) (chunkEnd - chunkStart);
+                inFlight.add(pool.submit(() -> parseChunk(channel, start, length, slots)));
+                chunkStart = chunkEnd;
+
+                if (inFlight.size() >= maxInFlight) {
+                    emit(inFlight.poll().join(), counters, progress, consumer);
+                }
+            }
+            while (!inFlight.isEmpty()) {
+                emit(inFlight.poll().join(), counters, progress, consumer);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            inFlight.forEach(task -> task.cancel(true));
+        }
+
+        return new Summary(counters[0], counters[1]);
+    }
+
+    private static int[] slotOfColumn(List<String> header) {
+        int[] slotOfColumn = new int[header.size()];
+        Arrays.fill(slotOfColumn, -1);
+        int[] slotOfRequired = {CsvChunkParser.COUNTRY_ISO2, CsvChunkParser.SWIFT_CODE, CsvChunkParser.NAME,
+                CsvChunkParser.ADDRESS, CsvChunkParser.COUNTRY_NAME};
+        for (int i = 0; i < REQUIRED_HEADERS.size(); i++) {
+            int column = header.indexOf(REQUIRED_HEADERS.get(i));
+            if (column < 0) {
+                throw new InvalidDataException("CSV file is missing required column: " + REQUIRED_HEADERS.get(i));
+            }
+            slotOfColumn[column] = slotOfRequired[i];
+        }
+        return slotOfColumn;
+    }
+
+    private static Chunk parseChunk(FileChannel channel, long start, int length, int[] slotOfColumn) {
+        MappedByteBuffer buffer;
+        try {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        CsvChunkParser parser = new CsvChunkParser(buffer, slotOfColumn);
+        Chunk chunk = new Chunk();
+        while (parser.next()) {
+            SwiftCodeRow row = parser.complete() ? parser.row() : null;
+            if (row == null) {
+                chunk.skipped.add(new SkippedRecord(chunk.records, parser.value(CsvChunkParser.SWIFT_CODE)));
+            } else {
+                chunk.rows.add(row);
+            }
+            chunk.records++;
+        }
+        return chunk;
+    }
+
+    private static void emit(Chunk chunk, int[] counters, ImportProgress progress, Consumer<SwiftCodeRow> consumer) {
+        for (SkippedRecord skipped : chunk.skipped) {
+            log.warn("Skipping record {}: SWIFT code '{}' is invalid.", counters[0] + skipped.record() + 1, skipped.swiftCode());
+        }
+        progress.recordParsed(chunk.records);
+        progress.recordSkipped(chunk.skipped.size());
+        counters[0] += chunk.records;
+        counters[1] += chunk.skipped.size();
+        chunk.rows.forEach(consumer);
+    }
+
+    /**
+     * Returns the position just after the first record separator at or beyond {@code target}. Quoting state
+     * is tracked from {@code recordStart}, which must itself be a record boundary, so a line break inside a
+     * quoted value is never taken for one.
+     */
+    private long recordBoundaryAfter(FileChannel channel, long recordStart, long target, long size) throws IOException {
+        if (target >= size) {
+            return size;
+        }
+        int state = FIELD_START;
+        long windowStart = recordStart;
+        while (windowStart < size) {
+            int windowLength = (int) Math.min(Math.min(chunkSize * 2, Integer.MAX_VALUE), size - windowStart);
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, windowLength);
+            for (int i = 0; i < windowLength; i++) {
+                byte b = window.get(i);
+                if (b == '\n' && state != QUOTED && windowStart + i >= target) {
+                    return windowStart + i + 1;
+                }
+                state = switch (state) {
+                    case QUOTED -> b == '"' ? QUOTE_IN_QUOTED : QUOTED;
+                    case QUOTE_IN_QUOTED -> b == '"' ? QUOTED : afterValue(b);
+                    case FIELD_START -> b == '"' ? QUOTED : afterValue(b);
+                    default -> afterValue(b);
+                };
+            }
+            windowStart += windowLength;
+        }
+        return size;
+    }
+
+    private static int afterValue(byte b) {
+        return b == ',' || b == '\n' || b == '\r' ? FIELD_START : UNQUOTED;
+    }
+
+    private record SkippedRecord(int record, String swiftCode) {
+    }
+
+    private static final class Chunk {
+        final List<SwiftCodeRow> rows = new ArrayList<>();
+        final List<SkippedRecord> skipped = new ArrayList<>();
+        int records;
+    }
+}
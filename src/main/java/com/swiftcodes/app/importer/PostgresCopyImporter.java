@@ -0,0 +1,99 @@
+package com.swiftcodes.app.importer;
+
+import com.swiftcodes.app.dto.SwiftCodeFileResponseDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.InputStream;
+
+/**
+ * Bulk import engine that streams parsed rows into a temporary staging table with PostgreSQL
+ * {@code COPY} and merges them into {@code countries} and {@code swift_codes} with set-based SQL.
+ * The whole import runs in a single transaction.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostgresCopyImporter {
+
+    private static final String CREATE_LATEST_TABLE = """
+            CREATE TEMPORARY TABLE swift_codes_latest ON COMMIT DROP AS
+            SELECT DISTINCT ON (swift_code) swift_code, name, address, country_iso2_code, is_headquarter
+            FROM swift_codes_staging
+            ORDER BY swift_code, row_no DESC""";
+
+    private static final String INSERT_COUNTRIES = """
+            INSERT INTO countries (country_iso2_code, country_name)
+            SELECT DISTINCT ON (country_iso2_code) country_iso2_code, COALESCE(NULLIF(country_name, ''), country_iso2_code)
+            FROM swift_codes_staging
+            ORDER BY country_iso2_code, row_no
+            ON CONFLICT (country_iso2_code) DO NOTHING""";
+
+    private static final String UPSERT_HEADQUARTERS = """
+            INSERT INTO swift_codes (swift_code, name, address, country_iso2_code, is_headquarter)
+            SELECT swift_code, name, address, country_iso2_code, is_headquarter
+            FROM swift_codes_latest
+            WHERE is_headquarter
+            ON CONFLICT (swift_code) DO UPDATE SET
+                name = EXCLUDED.name,
+                address = EXCLUDED.address,
+                country_iso2_code = EXCLUDED.country_iso2_code,
+                is_headquarter = EXCLUDED.is_headquarter""";
+
+    private static final String COUNT_BRANCHES =
+            "SELECT count(*) FROM swift_codes_latest WHERE NOT is_headquarter";
+
+    private static final String UPSERT_BRANCHES = """
+            INSERT INTO swift_codes (swift_code, name, address, country_iso2_code, is_headquarter)
+            SELECT l.swift_code, l.name, l.address, l.country_iso2_code, l.is_headquarter
+            FROM swift_codes_latest l
+            WHERE NOT l.is_headquarter
+              AND EXISTS (SELECT 1 FROM swift_codes h
+                          WHERE h.is_headquarter AND h.base_swift_code = left(l.swift_code, 8))
+            ON CONFLICT (swift_code) DO UPDATE SET
+                name = EXCLUDED.name,
+                address = EXCLUDED.address,
+                country_iso2_code = EXCLUDED.country_iso2_code,
+                is_headquarter = EXCLUDED.is_headquarter""";
+
+    private final StagingTableLoader stagingTableLoader;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public SwiftCodeFileResponseDTO importCsv(InputStream inputStream, SwiftCodeCsvReader csvReader, ImportProgress progress) {
+        return transactionTemplate.execute(status -> {
+            long start = System.nanoTime();
+            SwiftCodeCsvReader.Summary summary = stagingTableLoader.load(inputStream, csvReader, progress);
+
+            jdbcTemplate.execute(CREATE_LATEST_TABLE);
+            int newCountries = jdbcTemplate.update(INSERT_COUNTRIES);
+            log.info("Saved {} new countries to database.", newCountries);
+
+            int headquartersSaved = jdbcTemplate.update(UPSERT_HEADQUARTERS);
+            progress.recordHeadquartersSaved(headquartersSaved);
+            log.info("Saved {} headquarters to database.", headquartersSaved);
+
+            Integer branchRecords = jdbcTemplate.queryForObject(COUNT_BRANCHES, Integer.class);
+            int branchesSaved = jdbcTemplate.update(UPSERT_BRANCHES);
+            int orphanBranches = (branchRecords == null ? 0 : branchRecords) - branchesSaved;
+            if (orphanBranches > 0) {
+                log.warn("Skipping {} branches without matching headquarters.", orphanBranches);
+                progress.recordSkipped(orphanBranches);
+            }
+            progress.recordBranchesSaved(branchesSaved);
+            log.info("Saved {} branch offices to database.", branchesSaved);
+
+            log.info("COPY import finished in {} ms", (System.nanoTime() - start) / 1_000_000);
+            return new SwiftCodeFileResponseDTO(
+                    summary.getTotalRecords(),
+                    summary.getSkippedRecords() + orphanBranches,
+                    newCountries,
+                    headquartersSaved,
+                    branchesSaved
+            );
+        });
+    }
+}
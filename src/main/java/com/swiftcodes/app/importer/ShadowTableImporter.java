@@ -0,0 +1,182 @@
+package com.swiftcodes.app.importer;
+
+import com.swiftcodes.app.config.ImportProperties;
+import com.swiftcodes.app.dto.SwiftCodeFileResponseDTO;
+import com.swiftcodes.app.exception.InvalidDataException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Import engine that replaces the whole directory. The upload is loaded into a shadow copy of
+ * {@code swift_codes}, indexed and analyzed there, and swapped in by renaming the tables, all in one
+ * transaction. Readers keep querying the previous, fully indexed table until the swap commits; writes
+ * wait for the import so none are lost with the old table. Codes missing from the file are removed; an
+ * upload without a single valid code is rejected and the live table is kept.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShadowTableImporter {
+
+    static final String LIVE_TABLE = "swift_codes";
+    static final String SHADOW_TABLE = "swift_codes_next";
+    static final String RETIRED_TABLE = "swift_codes_previous";
+    static final String SHADOW_SUFFIX = "_next";
+
+    // Blocks writers but not readers for the duration of the import.
+    private static final String LOCK_WRITERS = "LOCK TABLE " + LIVE_TABLE + " IN EXCLUSIVE MODE";
+
+    // Indexes and foreign keys are added after the load, which is much cheaper than maintaining them row by row.
+    private static final String CREATE_SHADOW_TABLE = "CREATE TABLE " + SHADOW_TABLE + " (LIKE " + LIVE_TABLE
+            + " INCLUDING DEFAULTS INCLUDING GENERATED INCLUDING CONSTRAINTS INCLUDING STORAGE)";
+
+    private static final String INSERT_COUNTRIES = """
+            INSERT INTO countries (country_iso2_code, country_name)
+            SELECT DISTINCT ON (country_iso2_code) country_iso2_code, COALESCE(NULLIF(country_name, ''), country_iso2_code)
+            FROM swift_codes_staging
+            ORDER BY country_iso2_code, row_no
+            ON CONFLICT (country_iso2_code) DO NOTHING""";
+
+    // The file is the whole directory, so a branch needs its headquarters in the same file.
+    private static final String FILL_SHADOW_TABLE = """
+            INSERT INTO swift_codes_next (swift_code, name, address, country_iso2_code, is_headquarter)
+            SELECT l.swift_code, l.name, l.address, l.country_iso2_code, l.is_headquarter
+            FROM (SELECT DISTINCT ON (swift_code) swift_code, name, address, country_iso2_code, is_headquarter
+                  FROM swift_codes_staging
+                  ORDER BY swift_code, row_no DESC) l
+            WHERE l.is_headquarter
+               OR EXISTS (SELECT 1 FROM swift_codes_staging h
+                          WHERE h.is_headquarter AND left(h.swift_code, 8) = left(l.swift_code, 8))
+            ORDER BY l.swift_code""";
+
+    private static final String COUNT_ROWS = """
+            SELECT count(*) FILTER (WHERE is_headquarter) AS headquarters,
+                   count(*) FILTER (WHERE NOT is_headquarter) AS branches
+            FROM swift_codes_next""";
+
+    private static final String COUNT_DISTINCT_STAGED =
+            "SELECT count(DISTINCT swift_code) FROM swift_codes_staging";
+
+    private static final String LIVE_INDEXES = """
+            SELECT i.relname AS index_name, pg_get_indexdef(x.indexrelid) AS definition, x.indisprimary AS is_primary
+            FROM pg_index x
+            JOIN pg_class i ON i.oid = x.indexrelid
+            WHERE x.indrelid = to_regclass(?)""";
+
+    private static final String LIVE_FOREIGN_KEYS = """
+            SELECT conname AS constraint_name, pg_get_constraintdef(oid) AS definition
+            FROM pg_constraint
+            WHERE conrelid = to_regclass(?) AND contype = 'f'""";
+
+    private static final Pattern INDEX_DEFINITION =
+            Pattern.compile("^(CREATE (?:UNIQUE )?INDEX )(\\S+)( ON (?:ONLY )?)(\\S+)( .*)$");
+
+    private final StagingTableLoader stagingTableLoader;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ImportProperties importProperties;
+
+    public SwiftCodeFileResponseDTO importCsv(InputStream inputStream, SwiftCodeCsvReader csvReader, ImportProgress progress) {
+        return transactionTemplate.execute(status -> {
+            long start = System.nanoTime();
+            jdbcTemplate.execute(LOCK_WRITERS);
+            jdbcTemplate.execute("DROP TABLE IF EXISTS " + SHADOW_TABLE);
+            jdbcTemplate.execute(CREATE_SHADOW_TABLE);
+
+            SwiftCodeCsvReader.Summary summary = stagingTableLoader.load(inputStream, csvReader, progress);
+
+            int newCountries = jdbcTemplate.update(INSERT_COUNTRIES);
+            log.info("Saved {} new countries to database.", newCountries);
+
+            jdbcTemplate.update(FILL_SHADOW_TABLE);
+            Map<String, Object> counts = jdbcTemplate.queryForMap(COUNT_ROWS);
+            int headquarters = ((Number) counts.get("headquarters")).intValue();
+            int branches = ((Number) counts.get("branches")).intValue();
+            Integer staged = jdbcTemplate.queryForObject(COUNT_DISTINCT_STAGED, Integer.class);
+            int orphanBranches = (staged == null ? 0 : staged) - headquarters - branches;
+            if (orphanBranches > 0) {
+                log.warn("Skipping {} branches without matching headquarters.", orphanBranches);
+                progress.recordSkipped(orphanBranches);
+            }
+            if (headquarters + branches == 0) {
+                throw new InvalidDataException("File contains no valid SWIFT codes; the directory was left unchanged.");
+            }
+            progress.recordHeadquartersSaved(headquarters);
+            progress.recordBranchesSaved(branches);
+            log.info("Loaded {} headquarters and {} branch offices into {} in {} ms",
+                    headquarters, branches, SHADOW_TABLE, (System.nanoTime() - start) / 1_000_000);
+
+            List<String> renames = buildIndexes();
+            jdbcTemplate.execute("ANALYZE " + SHADOW_TABLE);
+            swap(renames);
+
+            log.info("Replaced {} in {} ms", LIVE_TABLE, (System.nanoTime() - start) / 1_000_000);
+            return new SwiftCodeFileResponseDTO(
+                    summary.getTotalRecords(),
+                    summary.getSkippedRecords() + Math.max(orphanBranches, 0),
+                    newCountries,
+                    headquarters,
+                    branches
+            );
+        });
+    }
+
+    /**
+     * Recreates every index and foreign key of the live table on the shadow table under a suffixed name
+     * and returns the statements that give them their original names once the live table is gone.
+     */
+    private List<String> buildIndexes() {
+        long start = System.nanoTime();
+        List<String> renames = new ArrayList<>();
+
+        for (Map<String, Object> index : jdbcTemplate.queryForList(LIVE_INDEXES, LIVE_TABLE)) {
+            String name = (String) index.get("index_name");
+            String shadowName = name + SHADOW_SUFFIX;
+            jdbcTemplate.execute(shadowIndexDefinition((String) index.get("definition"), shadowName));
+            if (Boolean.TRUE.equals(index.get("is_primary"))) {
+                jdbcTemplate.execute("ALTER TABLE " + SHADOW_TABLE + " ADD CONSTRAINT " + shadowName
+                        + " PRIMARY KEY USING INDEX " + shadowName);
+            }
+            renames.add("ALTER INDEX " + shadowName + " RENAME TO " + name);
+        }
+
+        for (Map<String, Object> foreignKey : jdbcTemplate.queryForList(LIVE_FOREIGN_KEYS, LIVE_TABLE)) {
+            String name = (String) foreignKey.get("constraint_name");
+            jdbcTemplate.execute("ALTER TABLE " + SHADOW_TABLE + " ADD CONSTRAINT " + name + SHADOW_SUFFIX + " "
+                    + foreignKey.get("definition"));
+            renames.add("ALTER TABLE " + LIVE_TABLE + " RENAME CONSTRAINT " + name + SHADOW_SUFFIX + " TO " + name);
+        }
+
+        log.info("Built {} indexes and constraints on {} in {} ms",
+                renames.size(), SHADOW_TABLE, (System.nanoTime() - start) / 1_000_000);
+        return renames;
+    }
+
+    // Readers block only for the renames; lock_timeout bounds how long the swap waits for running queries.
+    private void swap(List<String> renames) {
+        jdbcTemplate.execute("SET LOCAL lock_timeout = " + importProperties.getSwapLockTimeout().toMillis());
+        jdbcTemplate.execute("LOCK TABLE " + LIVE_TABLE + " IN ACCESS EXCLUSIVE MODE");
+        jdbcTemplate.execute("ALTER TABLE " + LIVE_TABLE + " RENAME TO " + RETIRED_TABLE);
+        jdbcTemplate.execute("ALTER TABLE " + SHADOW_TABLE + " RENAME TO " + LIVE_TABLE);
+        jdbcTemplate.execute("DROP TABLE " + RETIRED_TABLE);
+        renames.forEach(jdbcTemplate::execute);
+    }
+
+    static String shadowIndexDefinition(String definition, String shadowName) {
+        Matcher matcher = INDEX_DEFINITION.matcher(definition);
+        if (!matcher.matches()) {
+            throw new IllegalStateException("Unexpected index definition: " + definition);
+        }
+        return matcher.group(1) + shadowName + matcher.group(3) + SHADOW_TABLE + matcher.group(5);
+    }
+}
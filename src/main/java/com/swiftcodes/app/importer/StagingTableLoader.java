@@ -0,0 +1,102 @@
+package com.swiftcodes.app.importer;
+
+import com.swiftcodes.app.exception.DatabaseException;
+import com.swiftcodes.app.exception.InvalidDataException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+import org.apache.commons.csv.QuoteMode;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.function.Consumer;
+
+/**
+ * Creates the temporary {@code swift_codes_staging} table and streams parsed rows into it with PostgreSQL
+ * {@code COPY}. Must run inside a transaction; the table is dropped when it commits.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class StagingTableLoader {
+
+    private static final String CREATE_STAGING_TABLE = """
+            CREATE TEMPORARY TABLE swift_codes_staging (
+                row_no bigint NOT NULL,
+                swift_code varchar(11) NOT NULL,
+                name varchar(255) NOT NULL,
+                address varchar(255),
+                country_iso2_code char(2) NOT NULL,
+                country_name varchar(255),
+                is_headquarter boolean NOT NULL
+            ) ON COMMIT DROP""";
+
+    private static final String COPY_STAGING =
+            "COPY swift_codes_staging (row_no, swift_code, name, address, country_iso2_code, country_name, is_headquarter) "
+                    + "FROM STDIN WITH (FORMAT csv)";
+
+    // Quoting every value keeps empty strings distinct from NULL in COPY's CSV format.
+    private static final CSVFormat COPY_FORMAT = CSVFormat.DEFAULT.builder()
+            .setQuoteMode(QuoteMode.ALL_NON_NULL)
+            .setRecordSeparator('\n')
+            .build();
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    SwiftCodeCsvReader.Summary load(InputStream inputStream, SwiftCodeCsvReader csvReader, ImportProgress progress) {
+        long start = System.nanoTime();
+        jdbcTemplate.execute(CREATE_STAGING_TABLE);
+        SwiftCodeCsvReader.Summary summary = copyIntoStaging(inputStream, csvReader, progress);
+        log.info("Copied {} records into staging table in {} ms",
+                summary.getTotalRecords() - summary.getSkippedRecords(), (System.nanoTime() - start) / 1_000_000);
+        return summary;
+    }
+
+    private SwiftCodeCsvReader.Summary copyIntoStaging(InputStream inputStream, SwiftCodeCsvReader csvReader,
+                                                       ImportProgress progress) {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try (PGCopyOutputStream copyStream = new PGCopyOutputStream(connection.unwrap(PGConnection.class), COPY_STAGING);
+             BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(copyStream, StandardCharsets.UTF_8));
+             CSVPrinter printer = new CSVPrinter(writer, COPY_FORMAT)) {
+
+            long[] rowNo = {0};
+            return readRecords(inputStream, csvReader, progress, row -> {
+                try {
+                    printer.printRecord(++rowNo[0], row.getSwiftCode(), row.getBankName(), row.getAddress(),
+                            row.getCountryISO2(), row.getCountryName(), row.isHeadquarter());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (SQLException | IOException | UncheckedIOException e) {
+            log.error("Error streaming records into staging table", e);
+            throw new DatabaseException("Failed to bulk load SWIFT codes.", e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private SwiftCodeCsvReader.Summary readRecords(InputStream inputStream, SwiftCodeCsvReader csvReader,
+                                                   ImportProgress progress, Consumer<SwiftCodeRow> consumer) {
+        try {
+            return csvReader.read(inputStream, progress, consumer);
+        } catch (IOException e) {
+            log.error("Error parsing CSV file", e);
+            throw new InvalidDataException("Invalid CSV file format or corrupted file.");
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.swiftcodes.app.importer;
+
+import com.swiftcodes.app.bic.BaseCodeSet;
+import com.swiftcodes.app.config.ImportProperties;
+import com.swiftcodes.app.dto.SwiftCodeFileResponseDTO;
+import com.swiftcodes.app.exception.InvalidDataException;
+import com.swiftcodes.app.mapper.SwiftCodeMapper;
+import com.swiftcodes.app.model.SwiftCode;
+import com.swiftcodes.app.readmodel.CountryRegistry;
+import com.swiftcodes.app.readmodel.HeadquartersRegistry;
+import com.swiftcodes.app.repository.SwiftCodeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Import engine with a flat memory profile. The upload is spooled to a temporary file and read twice:
+ * the first pass only collects headquarters base codes and countries, the second pass persists rows
+ * in fixed-size chunks, each in its own transaction, so neither DTO lists nor a large persistence
+ * context are ever held in memory.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StreamingSwiftCodeImporter {
+
+    private final SwiftCodeRepository swiftCodeRepository;
+    private final CountryRegistry countryRegistry;
+    private final HeadquartersRegistry headquartersRegistry;
+    private final SwiftCodeMapper swiftCodeMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ImportProperties importProperties;
+
+    public SwiftCodeFileResponseDTO importCsv(InputStream inputStream, SwiftCodeCsvReader csvReader, ImportProgress progress) {
+        Path spooled = null;
+        try {
+            spooled = Files.createTempFile("swift-codes-", ".csv");
+            Files.copy(inputStream, spooled, StandardCopyOption.REPLACE_EXISTING);
+            return importSpooled(spooled, csvReader, progress);
+        } catch (IOException e) {
+            log.error("Error parsing CSV file", e);
+            throw new InvalidDataException("Invalid CSV file format or corrupted file.");
+        } finally {
+            deleteQuietly(spooled);
+        }
+    }
+
+    private SwiftCodeFileResponseDTO importSpooled(Path spooled, SwiftCodeCsvReader csvReader,
+                                                   ImportProgress progress) throws IOException {
+        Set<String> knownBases = headquartersRegistry.baseCodes();
+        BaseCodeSet headquarterBases = new BaseCodeSet(knownBases.size());
+        knownBases.forEach(headquarterBases::add);
+        Map<String, String> countryNames = new HashMap<>();
+
+        try (InputStream firstPass = new FileInputStream(spooled.toFile())) {
+            csvReader.read(firstPass, row -> {
+                if (row.isHeadquarter()) {
+                    headquarterBases.add(row.getSwiftCode());
+                }
+                countryNames.putIfAbsent(row.getCountryISO2(), row.getCountryName());
+            });
+        }
+
+        int newCountries = countryRegistry.createMissing(countryNames);
+        log.info("Saved {} new countries to database.", newCountries);
+
+        int chunkSize = importProperties.getChunkSize();
+        List<SwiftCode> chunk = new ArrayList<>(chunkSize);
+        int[] counters = new int[3]; // headquarters, branches, orphan branches
+
+        SwiftCodeCsvReader.Summary summary;
+        try (InputStream secondPass = new FileInputStream(spooled.toFile())) {
+            summary = csvReader.read(secondPass, progress, row -> {
+                if (row.isHeadquarter()) {
+                    counters[0]++;
+                } else if (headquarterBases.contains(row.getSwiftCode())) {
+                    counters[1]++;
+                } else {
+                    log.warn("Skipping branch {}: No matching headquarters found. Expected base_swift_code: {}",
+                            row.getSwiftCode(), row.getSwiftCode().substring(0, 8));
+                    counters[2]++;
+                    progress.recordSkipped(1);
+                    return;
+                }
+
+                chunk.add(swiftCodeMapper.toEntity(row));
+                if (chunk.size() >= chunkSize) {
+                    flush(chunk, progress);
+                }
+            });
+        }
+        flush(chunk, progress);
+
+        log.info("Saved {} headquarters and {} branch offices to database.", counters[0], counters[1]);
+        return new SwiftCodeFileResponseDTO(
+                summary.getTotalRecords(),
+                summary.getSkippedRecords() + counters[2],
+                newCountries,
+                counters[0],
+                counters[1]
+        );
+    }
+
+    private void flush(List<SwiftCode> chunk, ImportProgress progress) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        // Each chunk commits on its own, which also discards the persistence context it populated.
+        transactionTemplate.executeWithoutResult(status -> swiftCodeRepository.upsertAll(chunk));
+
+        long headquarters = chunk.stream().filter(SwiftCode::getIsHeadquarter).count();
+        progress.recordHeadquartersSaved(headquarters);
+        progress.recordBranchesSaved(chunk.size() - headquarters);
+        chunk.clear();
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Could not delete temporary import file {}", path, e);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.swiftcodes.app.importer;
+
+import com.swiftcodes.app.exception.InvalidDataException;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Parses an uploaded SWIFT code CSV file and hands every valid, normalized record to a consumer.
+ */
+@Slf4j
+public class SwiftCodeCsvReader {
+
+    public static final List<String> REQUIRED_HEADERS =
+            Arrays.asList("COUNTRY ISO2 CODE", "SWIFT CODE", "NAME", "ADDRESS", "COUNTRY NAME");
+
+    @Value
+    public static class Summary {
+        int totalRecords;
+        int skippedRecords;
+    }
+
+    public Summary read(InputStream inputStream, Consumer<SwiftCodeRow> consumer) throws IOException {
+        return read(inputStream, new ImportProgress(), consumer);
+    }
+
+    public Summary read(InputStream inputStream, ImportProgress progress, Consumer<SwiftCodeRow> consumer) throws IOException {
+        int totalRecords = 0;
+        int skippedRecords = 0;
+
+        try (InputStreamReader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8);
+             CSVParser csvParser = new CSVParser(reader, CSVFormat.DEFAULT
+                     .withFirstRecordAsHeader()
+                     .withIgnoreHeaderCase()
+                     .withTrim())) {
+
+            // Walidacja wymaganych nagłówków
+            Map<String, Integer> headerMap = csvParser.getHeaderMap();
+            for (String header : REQUIRED_HEADERS) {
+                if (!headerMap.containsKey(header)) {
+                    throw new InvalidDataException("CSV file is missing required column: " + header);
+                }
+            }
+
+            for (CSVRecord csvRecord : csvParser) {
+                totalRecords++;
+                progress.recordParsed();
+
+                SwiftCodeRow row = toRow(csvRecord);
+                if (row == null) {
+                    log.warn("Skipping record {}: SWIFT code '{}' is invalid.", totalRecords, csvRecord.get("SWIFT CODE"));
+                    skippedRecords++;
+                    progress.recordSkipped(1);
+                    continue;
+                }
+
+                consumer.accept(row);
+            }
+        }
+
+        return new Summary(totalRecords, skippedRecords);
+    }
+
+    static SwiftCodeRow toRow(CSVRecord csvRecord) {
+        return toRow(csvRecord.get("SWIFT CODE"), csvRecord.get("NAME"), csvRecord.get("ADDRESS"),
+                csvRecord.get("COUNTRY ISO2 CODE"), csvRecord.get("COUNTRY NAME"));
+    }
+
+    /**
+     * Normalizes one record, or returns null when its SWIFT code is invalid. Shared by every upload format.
+     */
+    static SwiftCodeRow toRow(String rawSwiftCode, String name, String address, String countryIso2Code, String countryName) {
+        String swiftCode = rawSwiftCode.trim();
+        if (swiftCode.length() != 11) {
+            return null;
+        }
+
+        return new SwiftCodeRow(
+                swiftCode,
+                name.trim().toUpperCase(),
+                address.trim().toUpperCase(),
+                countryIso2Code.trim().toUpperCase(),
+                countryName.trim().toUpperCase(),
+                swiftCode.endsWith("XXX")
+        );
+    }
+}
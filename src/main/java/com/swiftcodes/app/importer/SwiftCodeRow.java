@@ -0,0 +1,13 @@
+package com.swiftcodes.app.importer;
+
+import lombok.Value;
+
+@Value
+public class SwiftCodeRow {
+    String swiftCode;
+    String bankName;
+    String address;
+    String countryISO2;
+    String countryName;
+    boolean headquarter;
+}
@@ -0,0 +1,152 @@
+package com.swiftcodes.app.importer;
+
+import com.swiftcodes.app.exception.InvalidDataException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Reads the first sheet of an XLSX workbook with POI's SAX event model and hands rows to the consumer
+ * exactly like {@link SwiftCodeCsvReader}: the first non-empty row is the header, the same columns are
+ * required and every record goes through the same normalization. Cells are streamed from the sheet XML,
+ * so heap use does not grow with the number of rows; only the workbook's shared string table is held.
+ */
+@Slf4j
+public class SwiftCodeXlsxReader extends SwiftCodeCsvReader {
+
+    @Override
+    public Summary read(InputStream inputStream, ImportProgress progress, Consumer<SwiftCodeRow> consumer) throws IOException {
+        // Opened from a file the package is read with random access instead of being inflated into memory.
+        Path spooled = Files.createTempFile("swift-codes-", ".xlsx");
+        try {
+            Files.copy(inputStream, spooled, StandardCopyOption.REPLACE_EXISTING);
+            try (OPCPackage workbook = OPCPackage.open(spooled.toFile(), PackageAccess.READ)) {
+                return readFirstSheet(workbook, progress, consumer);
+            } catch (OpenXML4JException | SAXException | ParserConfigurationException | IllegalArgumentException e) {
+                log.error("Error reading XLSX file", e);
+                throw new InvalidDataException("Invalid XLSX file format or corrupted file.");
+            }
+        } finally {
+            Files.deleteIfExists(spooled);
+        }
+    }
+
+    private Summary readFirstSheet(OPCPackage workbook, ImportProgress progress, Consumer<SwiftCodeRow> consumer)
+            throws IOException, OpenXML4JException, SAXException, ParserConfigurationException {
+        XSSFReader reader = new XSSFReader(workbook);
+        Iterator<InputStream> sheets = reader.getSheetsData();
+        if (!sheets.hasNext()) {
+            throw new InvalidDataException("XLSX file contains no sheets.");
+        }
+
+        RowHandler rowHandler = new RowHandler(progress, consumer);
+        XMLReader parser = XMLHelper.newXMLReader();
+        parser.setContentHandler(new XSSFSheetXMLHandler(reader.getStylesTable(),
+                new ReadOnlySharedStringsTable(workbook), rowHandler, false));
+        try (InputStream sheet = sheets.next()) {
+            parser.parse(new InputSource(sheet));
+        }
+        rowHandler.requireHeader();
+        return new Summary(rowHandler.totalRecords, rowHandler.skippedRecords);
+    }
+
+    private static final class RowHandler implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+        private final ImportProgress progress;
+        private final Consumer<SwiftCodeRow> consumer;
+
+        // Column index of every required header, in REQUIRED_HEADERS order; null until the header is read.
+        private int[] columns;
+        private final Map<Integer, String> cells = new HashMap<>();
+
+        private int totalRecords;
+        private int skippedRecords;
+
+        RowHandler(ImportProgress progress, Consumer<SwiftCodeRow> consumer) {
+            this.progress = progress;
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            cells.clear();
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            if (formattedValue != null) {
+                cells.put((int) new CellReference(cellReference).getCol(), formattedValue);
+            }
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (cells.values().stream().allMatch(String::isBlank)) {
+                return;
+            }
+            if (columns == null) {
+                readHeader();
+                return;
+            }
+
+            totalRecords++;
+            progress.recordParsed();
+            SwiftCodeRow row = toRow(value(1), value(2), value(3), value(0), value(4));
+            if (row == null) {
+                log.warn("Skipping record {}: SWIFT code '{}' is invalid.", totalRecords, value(1).trim());
+                skippedRecords++;
+                progress.recordSkipped(1);
+                return;
+            }
+            consumer.accept(row);
+        }
+
+        private void readHeader() {
+            Map<String, Integer> headerMap = new HashMap<>();
+            cells.forEach((column, name) -> headerMap.putIfAbsent(name.trim().toUpperCase(), column));
+            columns = new int[REQUIRED_HEADERS.size()];
+            for (int i = 0; i < columns.length; i++) {
+                Integer column = headerMap.get(REQUIRED_HEADERS.get(i));
+                if (column == null) {
+                    throw new InvalidDataException("XLSX file is missing required column: " + REQUIRED_HEADERS.get(i));
+                }
+                columns[i] = column;
+            }
+        }
+
+        void requireHeader() {
+            if (columns == null) {
+                throw new InvalidDataException("XLSX file is missing required column: " + REQUIRED_HEADERS.get(0));
+            }
+        }
+
+        private String value(int requiredHeader) {
+            return cells.getOrDefault(columns[requiredHeader], "");
+        }
+
+        @Override
+        public void headerFooter(String text, boolean isHeader, String tagName) {
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.swiftcodes.app.importer;
+
+import com.swiftcodes.app.exception.InvalidDataException;
+
+public enum UploadFormat {
+    CSV(".csv"),
+    XLSX(".xlsx");
+
+    private final String fileExtension;
+
+    UploadFormat(String fileExtension) {
+        this.fileExtension = fileExtension;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    public static UploadFormat fromFileName(String originalFilename) {
+        String fileName = originalFilename == null ? "" : originalFilename.toLowerCase();
+        for (UploadFormat format : values()) {
+            if (fileName.endsWith(format.fileExtension)) {
+                return format;
+            }
+        }
+        throw new InvalidDataException("Invalid file format. Please upload a CSV or XLSX file.");
+    }
+}
@@ -3,7 +3,9 @@ package com.swiftcodes.app.mapper;
 import com.swiftcodes.app.dto.SwiftCodeDTO;
 import com.swiftcodes.app.dto.SwiftCodeRequestDTO;
 import com.swiftcodes.app.dto.SwiftCodeResponseDTO;
+import com.swiftcodes.app.importer.SwiftCodeRow;
 import com.swiftcodes.app.model.SwiftCode;
+import com.swiftcodes.app.repository.SwiftCodeDetailsView;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -21,6 +23,23 @@ public interface SwiftCodeMapper {
     SwiftCode toEntity(SwiftCodeDTO swiftCodeDTO);
 
 
+    @Mapping(source = "countryISO2", target = "countryIso2Code")
+    @Mapping(source = "headquarter", target = "isHeadquarter")
+    @Mapping(target = "baseSwiftCode", ignore = true)
+    SwiftCode toEntity(SwiftCodeRow swiftCodeRow);
+
+
     @Mapping(source = "countryIso2Code", target = "countryISO2")
+    @Mapping(target = "countryName", ignore = true)
+    @Mapping(target = "branches", ignore = true)
+    @Mapping(target = "branchCount", ignore = true)
+    @Mapping(target = "nextBranchCursor", ignore = true)
     SwiftCodeResponseDTO toResponseDTO(SwiftCode swiftCode);
+
+
+    @Mapping(source = "countryIso2Code", target = "countryISO2")
+    @Mapping(target = "branches", ignore = true)
+    @Mapping(target = "branchCount", ignore = true)
+    @Mapping(target = "nextBranchCursor", ignore = true)
+    SwiftCodeResponseDTO toResponseDTO(SwiftCodeDetailsView detailsView);
 }
@@ -0,0 +1,60 @@
+package com.swiftcodes.app.metrics;
+
+import com.swiftcodes.app.exception.DuplicateEntryException;
+import com.swiftcodes.app.exception.InvalidDataException;
+import com.swiftcodes.app.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times every {@code SwiftCodeService} and {@code SwiftCodeFileService} call, tagged with the implementing
+ * class (so cache or read-model hits can be told apart from database lookups) and the outcome.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+    public static final String TIMER_NAME = "swiftcodes.service";
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(public * com.swiftcodes.app.service.SwiftCodeService.*(..))"
+            + " || execution(public * com.swiftcodes.app.service.SwiftCodeFileService.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            outcome = outcomeOf(e);
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(TIMER_NAME)
+                    .description("Latency of SWIFT code service calls")
+                    .tag("class", AopUtils.getTargetClass(joinPoint.getTarget()).getSimpleName())
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    static String outcomeOf(Throwable e) {
+        if (e instanceof ResourceNotFoundException) {
+            return "not_found";
+        }
+        if (e instanceof DuplicateEntryException) {
+            return "duplicate";
+        }
+        if (e instanceof InvalidDataException) {
+            return "invalid";
+        }
+        return "error";
+    }
+}
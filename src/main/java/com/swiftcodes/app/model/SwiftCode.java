@@ -1,9 +1,14 @@
 package com.swiftcodes.app.model;
 
 import jakarta.persistence.*;
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.data.domain.Persistable;
 
 @Entity
 @Table(name = "swift_codes", indexes = {
@@ -12,8 +17,7 @@ import lombok.NoArgsConstructor;
 })
 @Data
 @NoArgsConstructor
-@AllArgsConstructor
-public class SwiftCode {
+public class SwiftCode implements Persistable<String> {
 
     @Id
     @Column(name = "swift_code", length = 11)
@@ -34,4 +38,39 @@ public class SwiftCode {
 
     @Column(name = "base_swift_code", length = 8, insertable = false, updatable = false)
     private String baseSwiftCode;
+
+    // Codes are assigned, not generated, so without this flag every save() would first SELECT the row
+    // to choose between persist and merge.
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private boolean persisted;
+
+    public SwiftCode(String swiftCode, String bankName, String address, String countryIso2Code,
+                     Boolean isHeadquarter, String baseSwiftCode) {
+        this.swiftCode = swiftCode;
+        this.bankName = bankName;
+        this.address = address;
+        this.countryIso2Code = countryIso2Code;
+        this.isHeadquarter = isHeadquarter;
+        this.baseSwiftCode = baseSwiftCode;
+    }
+
+    @Override
+    public String getId() {
+        return swiftCode;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    public void markPersisted() {
+        this.persisted = true;
+    }
 }
@@ -0,0 +1,196 @@
+package com.swiftcodes.app.readmodel;
+
+import com.swiftcodes.app.config.SnapshotProperties;
+import com.swiftcodes.app.event.SwiftCodesChangedEvent;
+import com.swiftcodes.app.model.Country;
+import com.swiftcodes.app.repository.CountryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Resident copy of the {@code countries} table. Reads never touch the database; countries created
+ * through the registry are added by swapping in a new immutable map once their transaction commits.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CountryRegistry {
+
+    private final CountryRepository countryRepository;
+
+    private final Object pendingKey = new Object();
+    private volatile Map<String, Country> countries;
+
+    @EventListener(classes = ApplicationReadyEvent.class, condition = SnapshotProperties.DATABASE_MODE)
+    public void loadOnStartup() {
+        try {
+            reload();
+        } catch (DataAccessException | TransactionException e) {
+            log.error("Could not load country registry, it will be loaded on first use", e);
+        }
+    }
+
+    public synchronized void reload() {
+        List<Country> all = countryRepository.findAll();
+        countries = all.stream().collect(Collectors.toUnmodifiableMap(Country::getIso2Code, country -> country));
+        log.info("Loaded {} countries into registry", all.size());
+    }
+
+    public Optional<Country> find(String countryIso2Code) {
+        return Optional.ofNullable(snapshot().get(countryIso2Code));
+    }
+
+    public Optional<String> findName(String countryIso2Code) {
+        return find(countryIso2Code).map(Country::getName);
+    }
+
+    public Map<String, String> findNames(Collection<String> countryIso2Codes) {
+        Map<String, Country> current = snapshot();
+        return countryIso2Codes.stream()
+                .filter(current::containsKey)
+                .distinct()
+                .collect(Collectors.toMap(iso -> iso, iso -> current.get(iso).getName()));
+    }
+
+    public Country getOrCreate(String countryIso2Code, String countryName) {
+        Country existing = snapshot().get(countryIso2Code);
+        if (existing == null) {
+            existing = createdInTransaction().get(countryIso2Code);
+        }
+        if (existing != null) {
+            return existing;
+        }
+        Country created = insertIfAbsent(countryIso2Code, countryName);
+        register(List.of(created));
+        return created;
+    }
+
+    /**
+     * Saves every country of {@code namesByIso2Code} that is not registered yet, using the ISO2 code
+     * when no name is given, and returns how many were created.
+     */
+    public int createMissing(Map<String, String> namesByIso2Code) {
+        Map<String, Country> current = snapshot();
+        Map<String, Country> pending = createdInTransaction();
+        List<Country> registered = new ArrayList<>();
+        int created = 0;
+        for (Map.Entry<String, String> entry : namesByIso2Code.entrySet()) {
+            if (current.containsKey(entry.getKey()) || pending.containsKey(entry.getKey())) {
+                continue;
+            }
+            String name = entry.getValue() == null || entry.getValue().isEmpty() ? entry.getKey() : entry.getValue();
+            if (countryRepository.insertIfAbsent(entry.getKey(), name) == 1) {
+                created++;
+                registered.add(new Country(entry.getKey(), name));
+            } else {
+                countryRepository.findById(entry.getKey()).ifPresent(registered::add);
+            }
+        }
+        if (!registered.isEmpty()) {
+            register(registered);
+        }
+        return created;
+    }
+
+    // Set-based imports insert countries with plain SQL, so the registry is reloaded after each one,
+    // and after another instance writes a code of a country this one has not seen.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSwiftCodesChanged(SwiftCodesChangedEvent event) {
+        Map<String, Country> current = countries;
+        boolean unknownRemoteCountry = event.isRemote() && current != null
+                && !current.keySet().containsAll(event.getCountryIso2Codes());
+        if (event.getType() != SwiftCodesChangedEvent.ChangeType.IMPORTED && !unknownRemoteCountry) {
+            return;
+        }
+        try {
+            reload();
+        } catch (DataAccessException | TransactionException e) {
+            log.error("Could not reload country registry after {}", event, e);
+            countries = null;
+        }
+    }
+
+    // The registry only knows countries written through this instance, so a country created elsewhere
+    // is read back instead of failing on the primary key.
+    private Country insertIfAbsent(String countryIso2Code, String countryName) {
+        if (countryRepository.insertIfAbsent(countryIso2Code, countryName) == 1) {
+            return new Country(countryIso2Code, countryName);
+        }
+        return countryRepository.findById(countryIso2Code)
+                .orElseGet(() -> new Country(countryIso2Code, countryName));
+    }
+
+    private Map<String, Country> snapshot() {
+        Map<String, Country> current = countries;
+        if (current == null) {
+            synchronized (this) {
+                if (countries == null) {
+                    reload();
+                }
+                current = countries;
+            }
+        }
+        return current;
+    }
+
+    // Countries created by the current transaction are only published once it commits, but later calls
+    // in the same transaction (several codes of one new country in a write batch) must still see them.
+    private Map<String, Country> createdInTransaction() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return Map.of();
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, Country> pending = (Map<String, Country>) TransactionSynchronizationManager.getResource(pendingKey);
+        return pending == null ? Map.of() : pending;
+    }
+
+    private void register(Collection<Country> created) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(created);
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, Country> pending = (Map<String, Country>) TransactionSynchronizationManager.getResource(pendingKey);
+        if (pending == null) {
+            Map<String, Country> createdCountries = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(pendingKey, createdCountries);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(createdCountries.values());
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(pendingKey);
+                }
+            });
+            pending = createdCountries;
+        }
+        for (Country country : created) {
+            pending.put(country.getIso2Code(), country);
+        }
+    }
+
+    private synchronized void publish(Collection<Country> created) {
+        Map<String, Country> updated = new HashMap<>(snapshot());
+        created.forEach(country -> updated.put(country.getIso2Code(), country));
+        countries = Map.copyOf(updated);
+    }
+}
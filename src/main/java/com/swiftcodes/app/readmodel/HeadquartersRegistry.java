@@ -0,0 +1,155 @@
+package com.swiftcodes.app.readmodel;
+
+import com.swiftcodes.app.config.SnapshotProperties;
+import com.swiftcodes.app.event.SwiftCodesChangedEvent;
+import com.swiftcodes.app.repository.SwiftCodeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Membership set of headquarters base codes (the first 8 characters of every headquarters BIC),
+ * used to validate branches in O(1). A miss falls back to an indexed exists query on
+ * {@code base_swift_code}, so headquarters written outside this instance are still found; bulk
+ * validation checks all of its misses with one query per {@value #LOOKUP_CHUNK_SIZE} codes.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HeadquartersRegistry {
+
+    // Keeps the IN list well below PostgreSQL's bind parameter limit.
+    static final int LOOKUP_CHUNK_SIZE = 1000;
+
+    private final SwiftCodeRepository swiftCodeRepository;
+
+    private volatile Set<String> baseCodes;
+
+    @EventListener(classes = ApplicationReadyEvent.class, condition = SnapshotProperties.DATABASE_MODE)
+    public void loadOnStartup() {
+        try {
+            reload();
+        } catch (DataAccessException | TransactionException e) {
+            log.error("Could not load headquarters registry, it will be loaded on first use", e);
+        }
+    }
+
+    public synchronized void reload() {
+        List<String> all = swiftCodeRepository.findHeadquarterBaseSwiftCodes();
+        Set<String> loaded = ConcurrentHashMap.newKeySet(all.size());
+        loaded.addAll(all);
+        baseCodes = loaded;
+        log.info("Loaded {} headquarters base codes into registry", loaded.size());
+    }
+
+    public boolean exists(String baseSwiftCode) {
+        Set<String> current = snapshot();
+        if (current.contains(baseSwiftCode)) {
+            return true;
+        }
+        boolean exists = swiftCodeRepository.existsByIsHeadquarterTrueAndBaseSwiftCode(baseSwiftCode);
+        if (exists) {
+            current.add(baseSwiftCode);
+        }
+        return exists;
+    }
+
+    /**
+     * Returns those of the given base codes that belong to a headquarters, querying the database once
+     * for all misses instead of once per code.
+     */
+    public Set<String> existing(Collection<String> baseSwiftCodes) {
+        Set<String> current = snapshot();
+        Set<String> found = new HashSet<>();
+        List<String> misses = new ArrayList<>();
+        for (String baseSwiftCode : new HashSet<>(baseSwiftCodes)) {
+            if (current.contains(baseSwiftCode)) {
+                found.add(baseSwiftCode);
+            } else {
+                misses.add(baseSwiftCode);
+            }
+        }
+        for (int from = 0; from < misses.size(); from += LOOKUP_CHUNK_SIZE) {
+            List<String> stored = swiftCodeRepository.findHeadquarterBaseSwiftCodesIn(
+                    misses.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, misses.size())));
+            current.addAll(stored);
+            found.addAll(stored);
+        }
+        return found;
+    }
+
+    public Set<String> baseCodes() {
+        return Set.copyOf(snapshot());
+    }
+
+    public void register(Collection<String> baseSwiftCodes) {
+        afterCommit(() -> snapshot().addAll(baseSwiftCodes));
+    }
+
+    public void unregister(String baseSwiftCode) {
+        afterCommit(() -> snapshot().remove(baseSwiftCode));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSwiftCodesChanged(SwiftCodesChangedEvent event) {
+        // Headquarters deleted by another instance are dropped; a later miss re-checks the database.
+        if (event.isRemote() && event.getType() == SwiftCodesChangedEvent.ChangeType.DELETED) {
+            Set<String> current = baseCodes;
+            if (current != null) {
+                event.getSwiftCodes().stream()
+                        .filter(code -> code.length() >= 8)
+                        .forEach(code -> current.remove(code.substring(0, 8)));
+            }
+            return;
+        }
+        if (event.getType() != SwiftCodesChangedEvent.ChangeType.IMPORTED) {
+            return;
+        }
+        try {
+            reload();
+        } catch (DataAccessException | TransactionException e) {
+            log.error("Could not reload headquarters registry after import", e);
+            baseCodes = null;
+        }
+    }
+
+    private Set<String> snapshot() {
+        Set<String> current = baseCodes;
+        if (current == null) {
+            synchronized (this) {
+                if (baseCodes == null) {
+                    reload();
+                }
+                current = baseCodes;
+            }
+        }
+        return current;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.swiftcodes.app.readmodel;
+
+import com.swiftcodes.app.config.NegativeLookupProperties;
+import com.swiftcodes.app.config.SnapshotProperties;
+import com.swiftcodes.app.event.SwiftCodesChangedEvent;
+import com.swiftcodes.app.repository.SwiftCodeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Probabilistic set of every stored SWIFT code, so lookups of unknown codes can be rejected without
+ * a database round trip. {@link #mightContain} never returns {@code false} for a stored code; until the
+ * filter is loaded, or when it is disabled, it always returns {@code true}.
+ * <p>
+ * New codes are added as soon as they are written (a rolled back write only costs a false positive).
+ * Deleted codes cannot be removed from a Bloom filter and keep passing until the next rebuild, which
+ * happens after every import and whenever more codes were added than the filter was sized for.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KnownSwiftCodesFilter {
+
+    private final SwiftCodeRepository swiftCodeRepository;
+    private final NegativeLookupProperties properties;
+
+    private final AtomicLong insertions = new AtomicLong();
+    private volatile BloomFilter filter;
+
+    @EventListener(classes = ApplicationReadyEvent.class, condition = SnapshotProperties.DATABASE_MODE)
+    public void loadOnStartup() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            reload();
+        } catch (DataAccessException | TransactionException e) {
+            log.error("Could not load known SWIFT codes filter, all lookups will query the database", e);
+        }
+    }
+
+    public synchronized void reload() {
+        long start = System.nanoTime();
+        List<String> codes = swiftCodeRepository.findAllSwiftCodes();
+        // Headroom for codes added before the next import-triggered rebuild.
+        BloomFilter loaded = BloomFilter.create(Math.max(1_024, codes.size() * 2L), properties.getFalsePositiveRate());
+        codes.forEach(loaded::put);
+        insertions.set(codes.size());
+        filter = loaded;
+        log.info("Loaded {} SWIFT codes into known codes filter in {} ms",
+                codes.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public boolean mightContain(String swiftCode) {
+        BloomFilter current = filter;
+        return current == null || current.mightContain(swiftCode);
+    }
+
+    // Runs inside the writing transaction, so the code passes the filter the moment it becomes visible.
+    @EventListener
+    public void onSwiftCodesWritten(SwiftCodesChangedEvent event) {
+        BloomFilter current = filter;
+        if (current != null && event.getType() == SwiftCodesChangedEvent.ChangeType.UPSERTED) {
+            event.getSwiftCodes().forEach(current::put);
+        }
+    }
+
+    // Adding again after commit, under the reload lock, covers a rebuild that read the table before the write committed.
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onSwiftCodesChanged(SwiftCodesChangedEvent event) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        BloomFilter current = filter;
+        switch (event.getType()) {
+            case UPSERTED -> {
+                if (current == null) {
+                    return;
+                }
+                event.getSwiftCodes().forEach(current::put);
+                if (insertions.addAndGet(event.getSwiftCodes().size()) > current.capacity()) {
+                    rebuild();
+                }
+            }
+            case IMPORTED -> rebuild();
+            case DELETED -> {
+                // Stale bits only cost a database round trip until the next rebuild.
+            }
+        }
+    }
+
+    private void rebuild() {
+        try {
+            reload();
+        } catch (DataAccessException | TransactionException e) {
+            log.error("Could not rebuild known SWIFT codes filter, all lookups will query the database", e);
+            filter = null;
+        }
+    }
+}
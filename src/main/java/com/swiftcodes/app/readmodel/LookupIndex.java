@@ -0,0 +1,22 @@
+package com.swiftcodes.app.readmodel;
+
+import com.swiftcodes.app.model.SwiftCode;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Read-only view of the SWIFT directory that lookups can be answered from without the database.
+ * Lists are sorted by SWIFT code.
+ */
+public interface LookupIndex {
+
+    Optional<SwiftCode> find(String swiftCode);
+
+    /** Branches (headquarters excluded) whose base code is {@code baseSwiftCode}. */
+    List<SwiftCode> branchesOf(String baseSwiftCode);
+
+    List<SwiftCode> byCountry(String countryIso2Code);
+
+    Optional<String> countryName(String countryIso2Code);
+}
@@ -0,0 +1,198 @@
+package com.swiftcodes.app.readmodel;
+
+import com.swiftcodes.app.bic.SwiftCodeMap;
+import com.swiftcodes.app.model.Country;
+import com.swiftcodes.app.model.SwiftCode;
+
+import java.util.*;
+
+/**
+ * Immutable in-heap snapshot of the {@code swift_codes} and {@code countries} tables.
+ * Updates never modify an existing index; they copy all three maps and return a new one. Only the
+ * code entries and the branch and country lists left untouched are shared, so every update costs time and
+ * garbage proportional to the whole directory, however few codes it changes.
+ * Codes and base codes are keyed by their packed {@code long} form, so neither map allocates an entry per code.
+ */
+public final class SwiftCodeIndex implements LookupIndex {
+
+    private static final Comparator<SwiftCode> BY_SWIFT_CODE = Comparator.comparing(SwiftCode::getSwiftCode);
+
+    private final SwiftCodeMap<SwiftCode> byCode;
+    private final SwiftCodeMap<List<SwiftCode>> branchesByBase;
+    private final Map<String, List<SwiftCode>> byCountry;
+    private final Map<String, String> countryNames;
+
+    private SwiftCodeIndex(SwiftCodeMap<SwiftCode> byCode,
+                           SwiftCodeMap<List<SwiftCode>> branchesByBase,
+                           Map<String, List<SwiftCode>> byCountry,
+                           Map<String, String> countryNames) {
+        this.byCode = byCode;
+        this.branchesByBase = branchesByBase;
+        this.byCountry = byCountry;
+        this.countryNames = countryNames;
+    }
+
+    public static SwiftCodeIndex build(Collection<SwiftCode> codes, Collection<Country> countries) {
+        SwiftCodeMap<SwiftCode> byCode = new SwiftCodeMap<>(codes.size());
+        Map<String, List<SwiftCode>> branchLists = new HashMap<>();
+        Map<String, List<SwiftCode>> byCountry = new HashMap<>();
+
+        for (SwiftCode code : codes) {
+            SwiftCode copy = copyOf(code);
+            byCode.put(copy.getSwiftCode(), copy);
+            if (isBranch(copy)) {
+                branchLists.computeIfAbsent(copy.getBaseSwiftCode(), key -> new ArrayList<>()).add(copy);
+            }
+            byCountry.computeIfAbsent(copy.getCountryIso2Code(), key -> new ArrayList<>()).add(copy);
+        }
+
+        SwiftCodeMap<List<SwiftCode>> branchesByBase = new SwiftCodeMap<>(branchLists.size());
+        branchLists.forEach((base, list) -> branchesByBase.put(base, sorted(list)));
+        byCountry.replaceAll((iso, list) -> sorted(list));
+
+        Map<String, String> countryNames = new HashMap<>();
+        for (Country country : countries) {
+            countryNames.put(country.getIso2Code(), country.getName());
+        }
+
+        return new SwiftCodeIndex(byCode, branchesByBase, byCountry, countryNames);
+    }
+
+    public static SwiftCodeIndex empty() {
+        return build(List.of(), List.of());
+    }
+
+    @Override
+    public Optional<SwiftCode> find(String swiftCode) {
+        return Optional.ofNullable(byCode.get(swiftCode));
+    }
+
+    @Override
+    public List<SwiftCode> branchesOf(String baseSwiftCode) {
+        List<SwiftCode> branches = branchesByBase.get(baseSwiftCode);
+        return branches == null ? List.of() : branches;
+    }
+
+    @Override
+    public List<SwiftCode> byCountry(String countryIso2Code) {
+        return byCountry.getOrDefault(countryIso2Code, List.of());
+    }
+
+    @Override
+    public Optional<String> countryName(String countryIso2Code) {
+        return Optional.ofNullable(countryNames.get(countryIso2Code));
+    }
+
+    public int size() {
+        return byCode.size();
+    }
+
+    public SwiftCodeIndex withUpserted(Collection<SwiftCode> codes, Collection<Country> countries) {
+        SwiftCodeMap<SwiftCode> newByCode = new SwiftCodeMap<>(byCode);
+        SwiftCodeMap<List<SwiftCode>> newBranches = new SwiftCodeMap<>(branchesByBase);
+        Map<String, List<SwiftCode>> newByCountry = new HashMap<>(byCountry);
+
+        for (SwiftCode code : codes) {
+            SwiftCode copy = copyOf(code);
+            SwiftCode previous = newByCode.put(copy.getSwiftCode(), copy);
+            if (previous != null) {
+                unlink(previous, newBranches, newByCountry);
+            }
+            link(copy, newBranches, newByCountry);
+        }
+
+        Map<String, String> newCountryNames = countryNames;
+        if (!countries.isEmpty()) {
+            newCountryNames = new HashMap<>(countryNames);
+            for (Country country : countries) {
+                newCountryNames.put(country.getIso2Code(), country.getName());
+            }
+        }
+
+        return new SwiftCodeIndex(newByCode, newBranches, newByCountry, newCountryNames);
+    }
+
+    public SwiftCodeIndex withDeleted(Collection<String> swiftCodes) {
+        SwiftCodeMap<SwiftCode> newByCode = new SwiftCodeMap<>(byCode);
+        SwiftCodeMap<List<SwiftCode>> newBranches = new SwiftCodeMap<>(branchesByBase);
+        Map<String, List<SwiftCode>> newByCountry = new HashMap<>(byCountry);
+
+        for (String swiftCode : swiftCodes) {
+            SwiftCode previous = newByCode.remove(swiftCode);
+            if (previous != null) {
+                unlink(previous, newBranches, newByCountry);
+            }
+        }
+
+        return new SwiftCodeIndex(newByCode, newBranches, newByCountry, countryNames);
+    }
+
+    private static void link(SwiftCode code,
+                             SwiftCodeMap<List<SwiftCode>> branches,
+                             Map<String, List<SwiftCode>> byCountry) {
+        if (isBranch(code)) {
+            List<SwiftCode> existing = branches.get(code.getBaseSwiftCode());
+            branches.put(code.getBaseSwiftCode(), existing == null ? List.of(code) : mergeSorted(existing, List.of(code)));
+        }
+        byCountry.merge(code.getCountryIso2Code(), List.of(code), SwiftCodeIndex::mergeSorted);
+    }
+
+    private static void unlink(SwiftCode code,
+                               SwiftCodeMap<List<SwiftCode>> branches,
+                               Map<String, List<SwiftCode>> byCountry) {
+        if (isBranch(code)) {
+            List<SwiftCode> existing = branches.get(code.getBaseSwiftCode());
+            if (existing != null) {
+                List<SwiftCode> remaining = without(existing, code.getSwiftCode());
+                if (remaining == null) {
+                    branches.remove(code.getBaseSwiftCode());
+                } else {
+                    branches.put(code.getBaseSwiftCode(), remaining);
+                }
+            }
+        }
+        byCountry.computeIfPresent(code.getCountryIso2Code(), (iso, list) -> without(list, code.getSwiftCode()));
+    }
+
+    private static List<SwiftCode> mergeSorted(List<SwiftCode> existing, List<SwiftCode> added) {
+        List<SwiftCode> merged = new ArrayList<>(existing.size() + added.size());
+        merged.addAll(existing);
+        merged.addAll(added);
+        return sorted(merged);
+    }
+
+    private static List<SwiftCode> without(List<SwiftCode> list, String swiftCode) {
+        List<SwiftCode> remaining = new ArrayList<>(list.size());
+        for (SwiftCode code : list) {
+            if (!code.getSwiftCode().equals(swiftCode)) {
+                remaining.add(code);
+            }
+        }
+        return remaining.isEmpty() ? null : List.copyOf(remaining);
+    }
+
+    private static List<SwiftCode> sorted(List<SwiftCode> list) {
+        list.sort(BY_SWIFT_CODE);
+        return List.copyOf(list);
+    }
+
+    private static boolean isBranch(SwiftCode code) {
+        return Boolean.FALSE.equals(code.getIsHeadquarter());
+    }
+
+    private static String baseOf(SwiftCode code) {
+        String swiftCode = code.getSwiftCode();
+        return swiftCode.length() < 8 ? swiftCode : swiftCode.substring(0, 8);
+    }
+
+    private static SwiftCode copyOf(SwiftCode code) {
+        return new SwiftCode(
+                code.getSwiftCode(),
+                code.getBankName(),
+                code.getAddress(),
+                code.getCountryIso2Code(),
+                code.getIsHeadquarter(),
+                baseOf(code)
+        );
+    }
+}
@@ -0,0 +1,69 @@
+package com.swiftcodes.app.readmodel;
+
+import com.swiftcodes.app.event.SwiftCodesChangedEvent;
+import com.swiftcodes.app.model.Country;
+import com.swiftcodes.app.model.SwiftCode;
+import com.swiftcodes.app.repository.CountryRepository;
+import com.swiftcodes.app.repository.SwiftCodeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Optional;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "swiftcodes.lookup.mode", havingValue = "read-model")
+@RequiredArgsConstructor
+public class SwiftCodeReadModel {
+
+    private final SwiftCodeRepository swiftCodeRepository;
+    private final CountryRepository countryRepository;
+
+    private volatile SwiftCodeIndex index;
+
+    public Optional<SwiftCodeIndex> current() {
+        return Optional.ofNullable(index);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void reload() {
+        long start = System.nanoTime();
+        try {
+            List<SwiftCode> codes = swiftCodeRepository.findAll();
+            List<Country> countries = countryRepository.findAll();
+            index = SwiftCodeIndex.build(codes, countries);
+            log.info("Loaded read model with {} SWIFT codes and {} countries in {} ms",
+                    codes.size(), countries.size(), (System.nanoTime() - start) / 1_000_000);
+        } catch (DataAccessException e) {
+            log.error("Could not load SWIFT code read model, lookups will fall back to the database", e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onSwiftCodesChanged(SwiftCodesChangedEvent event) {
+        if (index == null) {
+            reload();
+            return;
+        }
+
+        try {
+            switch (event.getType()) {
+                case UPSERTED -> index = index.withUpserted(
+                        swiftCodeRepository.findAllById(event.getSwiftCodes()),
+                        countryRepository.findAllById(event.getCountryIso2Codes()));
+                case DELETED -> index = index.withDeleted(event.getSwiftCodes());
+                case IMPORTED -> reload();
+            }
+        } catch (DataAccessException e) {
+            log.error("Could not apply {} to read model, dropping it until the next reload", event, e);
+            index = null;
+        }
+    }
+}
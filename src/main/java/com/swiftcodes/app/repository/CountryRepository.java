@@ -2,6 +2,20 @@ package com.swiftcodes.app.repository;
 
 import com.swiftcodes.app.model.Country;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CountryRepository extends JpaRepository<Country, String> {
+
+    /**
+     * Inserts the country unless it already exists, for example because another instance created it,
+     * and returns the number of rows written.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO countries (country_iso2_code, country_name)
+            VALUES (:iso2Code, :name)
+            ON CONFLICT (country_iso2_code) DO NOTHING""", nativeQuery = true)
+    int insertIfAbsent(@Param("iso2Code") String iso2Code, @Param("name") String name);
 }
@@ -0,0 +1,58 @@
+package com.swiftcodes.app.repository;
+
+import com.swiftcodes.app.config.SnapshotProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Creates the indexes the queries rely on but {@code backup.dump} does not contain. The script is
+ * idempotent and builds indexes concurrently, so it runs on every start without blocking writers.
+ * An interrupted concurrent build leaves an invalid index behind that {@code IF NOT EXISTS} would skip
+ * forever, so such an index is dropped first and built again.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SchemaIndexInitializer {
+
+    private static final String SCRIPT = "db/indexes.sql";
+
+    // Every index created by the script.
+    static final List<String> INDEXES = List.of("idx_country_iso2_swift_code");
+
+    private static final String IS_INVALID =
+            "SELECT NOT x.indisvalid FROM pg_index x WHERE x.indexrelid = to_regclass(?)";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(classes = ApplicationReadyEvent.class, condition = SnapshotProperties.DATABASE_MODE)
+    public void createIndexes() {
+        try {
+            dropInvalidIndexes();
+            new ResourceDatabasePopulator(new ClassPathResource(SCRIPT)).execute(dataSource);
+            log.info("Applied schema indexes from {}", SCRIPT);
+        } catch (DataAccessException e) {
+            log.error("Could not apply schema indexes from {}, keyset paging falls back to slower plans", SCRIPT, e);
+        }
+    }
+
+    void dropInvalidIndexes() {
+        for (String index : INDEXES) {
+            if (jdbcTemplate.queryForList(IS_INVALID, Boolean.class, index).contains(Boolean.TRUE)) {
+                log.warn("Dropping invalid index {} left by an interrupted build", index);
+                jdbcTemplate.execute("DROP INDEX CONCURRENTLY IF EXISTS " + index);
+            }
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.swiftcodes.app.repository;
+
+/**
+ * Read-only row of {@link SwiftCodeRepository#findWithBranches}: a SWIFT code together with
+ * the name of its country, instantiated directly from the query without managed entities.
+ */
+public record SwiftCodeDetailsView(
+        String swiftCode,
+        String bankName,
+        String address,
+        String countryIso2Code,
+        Boolean isHeadquarter,
+        String countryName
+) {
+}
@@ -1,13 +1,25 @@
 package com.swiftcodes.app.repository;
 
 import com.swiftcodes.app.model.SwiftCode;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 public interface SwiftCodeRepository extends JpaRepository<SwiftCode, String> {
 
+    int UPSERT_LOOKUP_BATCH_SIZE = 1000;
+
 
     List<SwiftCode> findByCountryIso2Code(String countryIso2Code);
 
@@ -15,9 +27,95 @@ public interface SwiftCodeRepository extends JpaRepository<SwiftCode, String> {
     List<SwiftCode> findByCountryIso2Code(String countryIso2Code, Pageable pageable);
 
 
+    List<SwiftCode> findByCountryIso2CodeAndSwiftCodeGreaterThanOrderBySwiftCodeAsc(String countryIso2Code,
+                                                                                  String afterSwiftCode,
+                                                                                  Limit limit);
+
+
     @Query("SELECT s FROM SwiftCode s WHERE s.isHeadquarter = false AND s.baseSwiftCode = ?1")
     List<SwiftCode> findBranchesByHeadquarter(String baseSwiftCode);
 
 
-    List<SwiftCode> findAllByIsHeadquarterTrue();
+    @Query("""
+            SELECT new com.swiftcodes.app.repository.SwiftCodeDetailsView(
+                s.swiftCode, s.bankName, s.address, s.countryIso2Code, s.isHeadquarter, c.name)
+            FROM SwiftCode s LEFT JOIN Country c ON c.iso2Code = s.countryIso2Code
+            WHERE s.swiftCode = :swiftCode
+               OR (s.isHeadquarter = false AND s.baseSwiftCode = :baseSwiftCode
+                   AND EXISTS (SELECT 1 FROM SwiftCode h WHERE h.swiftCode = :swiftCode AND h.isHeadquarter = true))
+            ORDER BY s.swiftCode""")
+    List<SwiftCodeDetailsView> findWithBranches(@Param("swiftCode") String swiftCode,
+                                                @Param("baseSwiftCode") String baseSwiftCode);
+
+
+    @Query("""
+            SELECT new com.swiftcodes.app.repository.SwiftCodeDetailsView(
+                s.swiftCode, s.bankName, s.address, s.countryIso2Code, s.isHeadquarter, c.name)
+            FROM SwiftCode s LEFT JOIN Country c ON c.iso2Code = s.countryIso2Code
+            WHERE s.swiftCode = :swiftCode
+               OR (s.isHeadquarter = false AND s.baseSwiftCode = :baseSwiftCode AND s.swiftCode > :afterSwiftCode
+                   AND EXISTS (SELECT 1 FROM SwiftCode h WHERE h.swiftCode = :swiftCode AND h.isHeadquarter = true))
+            ORDER BY CASE WHEN s.swiftCode = :swiftCode THEN 0 ELSE 1 END, s.swiftCode""")
+    List<SwiftCodeDetailsView> findWithBranchPage(@Param("swiftCode") String swiftCode,
+                                                  @Param("baseSwiftCode") String baseSwiftCode,
+                                                  @Param("afterSwiftCode") String afterSwiftCode,
+                                                  Limit limit);
+
+
+    @Query("SELECT COUNT(s) FROM SwiftCode s WHERE s.isHeadquarter = false AND s.baseSwiftCode = ?1")
+    long countBranchesByHeadquarter(String baseSwiftCode);
+
+
+    @Query("SELECT s FROM SwiftCode s WHERE s.isHeadquarter = false AND s.baseSwiftCode IN ?1")
+    List<SwiftCode> findBranchesByHeadquarters(Collection<String> baseSwiftCodes);
+
+
+    boolean existsByIsHeadquarterTrueAndBaseSwiftCode(String baseSwiftCode);
+
+
+    @Query("SELECT SUBSTRING(s.swiftCode, 1, 8) FROM SwiftCode s WHERE s.isHeadquarter = true")
+    List<String> findHeadquarterBaseSwiftCodes();
+
+
+    @Query("SELECT DISTINCT s.baseSwiftCode FROM SwiftCode s WHERE s.isHeadquarter = true AND s.baseSwiftCode IN ?1")
+    List<String> findHeadquarterBaseSwiftCodesIn(Collection<String> baseSwiftCodes);
+
+
+    @Query("SELECT s.swiftCode FROM SwiftCode s")
+    List<String> findAllSwiftCodes();
+
+
+    /**
+     * Inserts the code unless it already exists and returns the number of rows written, so a
+     * duplicate costs no separate existence check and does not abort the surrounding transaction.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO swift_codes (swift_code, name, address, country_iso2_code, is_headquarter)
+            VALUES (:#{#code.swiftCode}, :#{#code.bankName}, :#{#code.address},
+                    :#{#code.countryIso2Code}, :#{#code.isHeadquarter})
+            ON CONFLICT (swift_code) DO NOTHING""", nativeQuery = true)
+    int insertIfAbsent(@Param("code") SwiftCode code);
+
+
+    /**
+     * Saves imported codes, keeping the last occurrence of each. Existing rows are loaded with one
+     * query per batch so that new codes are persisted as batched inserts and existing ones are merged
+     * into the loaded rows without a SELECT per code.
+     */
+    @Transactional
+    default List<SwiftCode> upsertAll(Collection<SwiftCode> codes) {
+        Map<String, SwiftCode> latest = new LinkedHashMap<>();
+        codes.forEach(code -> latest.put(code.getSwiftCode(), code));
+
+        List<String> ids = List.copyOf(latest.keySet());
+        for (int from = 0; from < ids.size(); from += UPSERT_LOOKUP_BATCH_SIZE) {
+            Set<String> existing = findAllById(ids.subList(from, Math.min(from + UPSERT_LOOKUP_BATCH_SIZE, ids.size())))
+                    .stream()
+                    .map(SwiftCode::getSwiftCode)
+                    .collect(Collectors.toSet());
+            existing.forEach(id -> latest.get(id).markPersisted());
+        }
+        return saveAll(latest.values());
+    }
 }
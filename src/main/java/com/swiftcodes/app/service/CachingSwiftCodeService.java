@@ -0,0 +1,195 @@
+package com.swiftcodes.app.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.swiftcodes.app.config.LookupCacheProperties;
+import com.swiftcodes.app.dto.CacheStatsDTO;
+import com.swiftcodes.app.dto.CountrySwiftCodesResponseDTO;
+import com.swiftcodes.app.dto.SwiftCodeLookupResponseDTO;
+import com.swiftcodes.app.dto.SwiftCodeRequestDTO;
+import com.swiftcodes.app.dto.SwiftCodeResponseDTO;
+import com.swiftcodes.app.event.SwiftCodesChangedEvent;
+import com.swiftcodes.app.exception.ResourceNotFoundException;
+import com.swiftcodes.app.readmodel.KnownSwiftCodesFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Bounded cache in front of {@link SwiftCodeServiceImpl} for the database lookup mode. Entries are
+ * evicted precisely from {@link SwiftCodesChangedEvent}s: a changed code also evicts its headquarters
+ * (whose branch list embeds it) and every cached listing page of its country; imports clear everything.
+ * Concurrent misses for the same key are coalesced into one delegate call.
+ */
+@Slf4j
+@Service
+@Primary
+@ConditionalOnExpression(CachingSwiftCodeService.ENABLED)
+public class CachingSwiftCodeService implements SwiftCodeService {
+
+    public static final String ENABLED =
+            "'${swiftcodes.lookup.mode:database}' == 'database' and ${swiftcodes.cache.enabled:true}";
+
+    private final SwiftCodeServiceImpl swiftCodeServiceImpl;
+    private final KnownSwiftCodesFilter knownSwiftCodesFilter;
+    private final Cache<String, SwiftCodeResponseDTO> details;
+    private final Cache<BranchPageKey, SwiftCodeResponseDTO> branchPages;
+    private final Cache<CountryPageKey, CountrySwiftCodesResponseDTO> countryPages;
+    private final SingleFlight<String, SwiftCodeResponseDTO> detailLoads = new SingleFlight<>();
+    private final SingleFlight<BranchPageKey, SwiftCodeResponseDTO> branchPageLoads = new SingleFlight<>();
+    private final SingleFlight<CountryPageKey, CountrySwiftCodesResponseDTO> countryPageLoads = new SingleFlight<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public CachingSwiftCodeService(SwiftCodeServiceImpl swiftCodeServiceImpl, KnownSwiftCodesFilter knownSwiftCodesFilter,
+                                   LookupCacheProperties properties) {
+        this.swiftCodeServiceImpl = swiftCodeServiceImpl;
+        this.knownSwiftCodesFilter = knownSwiftCodesFilter;
+        this.details = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTimeToLive())
+                .recordStats()
+                .build();
+        this.branchPages = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTimeToLive())
+                .recordStats()
+                .build();
+        this.countryPages = Caffeine.newBuilder()
+                .maximumSize(properties.getCountryPagesMaximumSize())
+                .expireAfterWrite(properties.getTimeToLive())
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public SwiftCodeResponseDTO getSwiftCode(String swiftCode) {
+        rejectUnknown(swiftCode);
+        return load(details, detailLoads, swiftCode, () -> swiftCodeServiceImpl.getSwiftCode(swiftCode));
+    }
+
+    @Override
+    public SwiftCodeResponseDTO getSwiftCode(String swiftCode, int branchLimit, String branchCursor) {
+        rejectUnknown(swiftCode);
+        return load(branchPages, branchPageLoads, new BranchPageKey(swiftCode, branchLimit, branchCursor),
+                () -> swiftCodeServiceImpl.getSwiftCode(swiftCode, branchLimit, branchCursor));
+    }
+
+    @Override
+    public SwiftCodeLookupResponseDTO lookupSwiftCodes(Collection<String> swiftCodes) {
+        return swiftCodeServiceImpl.lookupSwiftCodes(swiftCodes);
+    }
+
+    @Override
+    public CountrySwiftCodesResponseDTO getSwiftCodesByCountry(String countryIso2Code, Pageable pageable) {
+        return load(countryPages, countryPageLoads, new CountryPageKey(countryIso2Code, pageable, null, 0),
+                () -> swiftCodeServiceImpl.getSwiftCodesByCountry(countryIso2Code, pageable));
+    }
+
+    @Override
+    public CountrySwiftCodesResponseDTO getSwiftCodesByCountry(String countryIso2Code, String cursor, int size) {
+        return load(countryPages, countryPageLoads, new CountryPageKey(countryIso2Code, null, cursor, size),
+                () -> swiftCodeServiceImpl.getSwiftCodesByCountry(countryIso2Code, cursor, size));
+    }
+
+    @Override
+    public SwiftCodeResponseDTO addSwiftCode(SwiftCodeRequestDTO swiftCodeRequestDTO) {
+        return swiftCodeServiceImpl.addSwiftCode(swiftCodeRequestDTO);
+    }
+
+    @Override
+    public SwiftCodeResponseDTO deleteSwiftCode(String swiftCode) {
+        return swiftCodeServiceImpl.deleteSwiftCode(swiftCode);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSwiftCodesChanged(SwiftCodesChangedEvent event) {
+        generation.incrementAndGet();
+        detailLoads.forgetAll();
+        branchPageLoads.forgetAll();
+        countryPageLoads.forgetAll();
+
+        if (event.getType() == SwiftCodesChangedEvent.ChangeType.IMPORTED) {
+            details.invalidateAll();
+            branchPages.invalidateAll();
+            countryPages.invalidateAll();
+            log.info("Cleared SWIFT code caches after import");
+            return;
+        }
+
+        Set<String> evicted = event.getSwiftCodes().stream()
+                .flatMap(code -> code.length() >= 8
+                        ? Stream.of(code, code.substring(0, 8) + "XXX")
+                        : Stream.of(code))
+                .collect(Collectors.toSet());
+        details.invalidateAll(evicted);
+        branchPages.asMap().keySet().removeIf(key -> evicted.contains(key.swiftCode()));
+        countryPages.asMap().keySet().removeIf(key -> event.getCountryIso2Codes().contains(key.countryIso2Code()));
+        log.debug("Evicted {} and country listings of {} from cache", evicted, event.getCountryIso2Codes());
+    }
+
+    public List<CacheStatsDTO> getStats() {
+        return List.of(toStatsDTO("swiftCodes", details), toStatsDTO("branchPages", branchPages),
+                toStatsDTO("countryPages", countryPages));
+    }
+
+    /**
+     * Concurrent misses for one key share a single delegate call (including a not-found result), and the
+     * database load runs outside Caffeine's map locks. A result loaded across a change event may predate
+     * the write, so it is returned but not cached.
+     */
+    private <K, V> V load(Cache<K, V> cache, SingleFlight<K, V> loads, K key, Supplier<V> loader) {
+        V cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        return loads.execute(key, () -> {
+            V loadedMeanwhile = cache.asMap().get(key);
+            if (loadedMeanwhile != null) {
+                return loadedMeanwhile;
+            }
+            long loadGeneration = generation.get();
+            V value = loader.get();
+            if (generation.get() == loadGeneration) {
+                cache.put(key, value);
+            }
+            return value;
+        });
+    }
+
+    // Checked here as well so definite misses never open a transaction in the delegate.
+    private void rejectUnknown(String swiftCode) {
+        if (!knownSwiftCodesFilter.mightContain(swiftCode)) {
+            throw new ResourceNotFoundException("SWIFT code not found: " + swiftCode, false);
+        }
+    }
+
+    private static CacheStatsDTO toStatsDTO(String name, Cache<?, ?> cache) {
+        CacheStats stats = cache.stats();
+        return CacheStatsDTO.builder()
+                .name(name)
+                .size(cache.estimatedSize())
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .build();
+    }
+
+    private record BranchPageKey(String swiftCode, int branchLimit, String branchCursor) {
+    }
+
+    private record CountryPageKey(String countryIso2Code, Pageable pageable, String cursor, int size) {
+    }
+}
@@ -0,0 +1,11 @@
+package com.swiftcodes.app.service;
+
+import com.swiftcodes.app.dto.ImportJobDTO;
+import org.springframework.web.multipart.MultipartFile;
+
+public interface ImportJobService {
+
+    ImportJobDTO submit(MultipartFile file);
+
+    ImportJobDTO getJob(String id);
+}
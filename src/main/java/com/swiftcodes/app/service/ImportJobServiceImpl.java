@@ -0,0 +1,155 @@
+package com.swiftcodes.app.service;
+
+import com.swiftcodes.app.config.ImportProperties;
+import com.swiftcodes.app.dto.ImportJobDTO;
+import com.swiftcodes.app.exception.ImportRejectedException;
+import com.swiftcodes.app.exception.InvalidDataException;
+import com.swiftcodes.app.exception.ResourceNotFoundException;
+import com.swiftcodes.app.importer.ImportJob;
+import com.swiftcodes.app.importer.ImportProgress;
+import com.swiftcodes.app.importer.UploadFormat;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Service
+public class ImportJobServiceImpl implements ImportJobService {
+
+    private final SwiftCodeFileService swiftCodeFileService;
+    private final ImportProperties importProperties;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    public ImportJobServiceImpl(SwiftCodeFileService swiftCodeFileService, ImportProperties importProperties) {
+        this.swiftCodeFileService = swiftCodeFileService;
+        this.importProperties = importProperties;
+
+        // A few long-running imports at a time, so a small pool of platform threads; the pool size and
+        // queue bound how many imports run and wait at once.
+        ImportProperties.Async async = importProperties.getAsync();
+        this.executor = new ThreadPoolExecutor(
+                async.getMaxConcurrentJobs(),
+                async.getMaxConcurrentJobs(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(async.getQueueCapacity()),
+                Thread.ofPlatform().name("swift-import-", 0).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public ImportJobDTO submit(MultipartFile file) {
+        evictExpiredJobs();
+        // Rejected before the upload is spooled and queued, so an unsupported file gets a 400, not a failed job.
+        UploadFormat.fromFileName(file.getOriginalFilename());
+
+        ImportJob job = new ImportJob(UUID.randomUUID().toString(), file.getOriginalFilename());
+        Path spooled = spool(file);
+
+        jobs.put(job.getId(), job);
+        try {
+            executor.execute(() -> run(job, spooled));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            deleteQuietly(spooled);
+            log.warn("Rejected import of {}: import queue is full", file.getOriginalFilename());
+            throw new ImportRejectedException("Too many imports in progress. Please try again later.");
+        }
+
+        log.info("Queued import job {} for file {}", job.getId(), job.getFileName());
+        return toDTO(job);
+    }
+
+    @Override
+    public ImportJobDTO getJob(String id) {
+        // Also evicted here, so finished jobs expire on an instance that no longer receives uploads.
+        evictExpiredJobs();
+        ImportJob job = jobs.get(id);
+        if (job == null) {
+            throw new ResourceNotFoundException("Import job not found: " + id);
+        }
+        return toDTO(job);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(ImportJob job, Path spooled) {
+        job.markRunning();
+        log.info("Starting import job {}", job.getId());
+        // A FileInputStream lets the parallel parser map the spooled file instead of copying it again.
+        try (InputStream inputStream = new FileInputStream(spooled.toFile())) {
+            job.markCompleted(swiftCodeFileService.parseAndSaveSwiftCodes(inputStream, job.getFileName(), job.getProgress()));
+            log.info("Import job {} completed", job.getId());
+        } catch (InvalidDataException e) {
+            log.warn("Import job {} rejected: {}", job.getId(), e.getMessage());
+            job.markFailed(e.getMessage());
+        } catch (Exception e) {
+            log.error("Import job {} failed", job.getId(), e);
+            job.markFailed("An unexpected error occurred.");
+        } finally {
+            deleteQuietly(spooled);
+        }
+    }
+
+    // The multipart temp file is removed once the request completes, so the upload is copied first.
+    private Path spool(MultipartFile file) {
+        try {
+            Path spooled = Files.createTempFile("swift-import-", ".upload");
+            file.transferTo(spooled);
+            return spooled;
+        } catch (IOException e) {
+            log.error("Error spooling uploaded file", e);
+            throw new InvalidDataException("Could not process uploaded CSV file.");
+        }
+    }
+
+    private void evictExpiredJobs() {
+        Instant cutoff = Instant.now().minus(importProperties.getAsync().getJobRetention());
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(cutoff));
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Could not delete temporary import file {}", path, e);
+        }
+    }
+
+    private ImportJobDTO toDTO(ImportJob job) {
+        ImportProgress progress = job.getProgress();
+        return ImportJobDTO.builder()
+                .id(job.getId())
+                .status(job.getStatus().name())
+                .fileName(job.getFileName())
+                .submittedAt(job.getSubmittedAt())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .rowsParsed(progress.getRowsParsed())
+                .skippedRecords(progress.getSkippedRecords())
+                .headquartersSaved(progress.getHeadquartersSaved())
+                .branchesSaved(progress.getBranchesSaved())
+                .rowsPerSecond(job.getRowsPerSecond())
+                .result(job.getResult())
+                .error(job.getError())
+                .build();
+    }
+}
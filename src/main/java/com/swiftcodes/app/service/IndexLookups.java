@@ -0,0 +1,184 @@
+package com.swiftcodes.app.service;
+
+import com.swiftcodes.app.dto.CountrySwiftCodesResponseDTO;
+import com.swiftcodes.app.dto.SwiftCodeLookupResponseDTO;
+import com.swiftcodes.app.dto.SwiftCodeResponseDTO;
+import com.swiftcodes.app.exception.InvalidDataException;
+import com.swiftcodes.app.exception.ResourceNotFoundException;
+import com.swiftcodes.app.mapper.SwiftCodeMapper;
+import com.swiftcodes.app.model.SwiftCode;
+import com.swiftcodes.app.readmodel.LookupIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * {@link SwiftCodeService} lookups answered from a {@link LookupIndex}, producing the same responses as
+ * {@link SwiftCodeServiceImpl}. Shared by the lookup modes that do not query the database.
+ */
+@Slf4j
+@RequiredArgsConstructor
+final class IndexLookups {
+
+    private final SwiftCodeMapper swiftCodeMapper;
+
+    SwiftCodeResponseDTO getSwiftCode(LookupIndex index, String swiftCode) {
+        SwiftCode code = index.find(swiftCode)
+                .orElseThrow(() -> new ResourceNotFoundException("SWIFT code not found: " + swiftCode));
+
+        return toDetailsDTO(index, code);
+    }
+
+    SwiftCodeResponseDTO getSwiftCode(LookupIndex index, String swiftCode, int branchLimit, String branchCursor) {
+        if (branchLimit < 1) {
+            throw new InvalidDataException("Branch limit must be greater than zero.");
+        }
+
+        String baseSwiftCode = swiftCode.length() >= 8 ? swiftCode.substring(0, 8) : swiftCode;
+        String after = KeysetCursor.decode(baseSwiftCode, branchCursor);
+        SwiftCode code = index.find(swiftCode)
+                .orElseThrow(() -> new ResourceNotFoundException("SWIFT code not found: " + swiftCode));
+
+        if (!Boolean.TRUE.equals(code.getIsHeadquarter())) {
+            return toDetailsDTO(index, code, List.of());
+        }
+
+        List<SwiftCode> all = index.branchesOf(code.getBaseSwiftCode());
+        int from = firstAfter(all, after);
+        int to = Math.min(from + branchLimit, all.size());
+        SwiftCodeResponseDTO dto = toDetailsDTO(index, code, all.subList(from, to));
+        dto.setBranchCount(all.size());
+        if (to < all.size()) {
+            dto.setNextBranchCursor(KeysetCursor.encode(baseSwiftCode, all.get(to - 1).getSwiftCode()));
+        }
+        return dto;
+    }
+
+    SwiftCodeLookupResponseDTO lookupSwiftCodes(LookupIndex index, Collection<String> swiftCodes) {
+        Map<String, SwiftCodeResponseDTO> found = new LinkedHashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String swiftCode : new LinkedHashSet<>(swiftCodes)) {
+            index.find(swiftCode).ifPresentOrElse(
+                    code -> found.put(swiftCode, toDetailsDTO(index, code)),
+                    () -> missing.add(swiftCode));
+        }
+
+        return new SwiftCodeLookupResponseDTO(found, missing);
+    }
+
+    CountrySwiftCodesResponseDTO getSwiftCodesByCountry(LookupIndex index, String countryIso2Code, Pageable pageable) {
+        if (!countryIso2Code.matches("^[A-Z]{2}$")) {
+            log.warn("Invalid country ISO2 format: {}", countryIso2Code);
+            throw new InvalidDataException("Country ISO2 code must be exactly 2 uppercase letters.");
+        }
+
+        List<SwiftCode> all = index.byCountry(countryIso2Code);
+        int from = (int) Math.min(pageable.getOffset(), all.size());
+        int to = Math.min(from + pageable.getPageSize(), all.size());
+        List<SwiftCode> codes = all.subList(from, to);
+
+        if (codes.isEmpty()) {
+            log.warn("No SWIFT codes found for country: {}", countryIso2Code);
+            throw new ResourceNotFoundException("No SWIFT codes found for country: " + countryIso2Code);
+        }
+
+        return toCountryResponse(index, countryIso2Code, codes);
+    }
+
+    CountrySwiftCodesResponseDTO getSwiftCodesByCountry(LookupIndex index, String countryIso2Code, String cursor, int size) {
+        if (!countryIso2Code.matches("^[A-Z]{2}$")) {
+            log.warn("Invalid country ISO2 format: {}", countryIso2Code);
+            throw new InvalidDataException("Country ISO2 code must be exactly 2 uppercase letters.");
+        }
+        if (size < 1) {
+            throw new InvalidDataException("Page size must be greater than zero.");
+        }
+
+        String after = KeysetCursor.decode(countryIso2Code, cursor);
+        List<SwiftCode> all = index.byCountry(countryIso2Code);
+        if (all.isEmpty() && after.isEmpty()) {
+            log.warn("No SWIFT codes found for country: {}", countryIso2Code);
+            throw new ResourceNotFoundException("No SWIFT codes found for country: " + countryIso2Code);
+        }
+
+        int from = firstAfter(all, after);
+        int to = Math.min(from + size, all.size());
+        CountrySwiftCodesResponseDTO response = toCountryResponse(index, countryIso2Code, all.subList(from, to));
+        if (to < all.size()) {
+            response.setNextCursor(KeysetCursor.encode(countryIso2Code, all.get(to - 1).getSwiftCode()));
+        }
+        return response;
+    }
+
+    private CountrySwiftCodesResponseDTO toCountryResponse(LookupIndex index, String countryIso2Code,
+                                                           List<SwiftCode> codes) {
+        List<SwiftCodeResponseDTO> dtoList = codes.stream()
+                .map(swiftCodeMapper::toResponseDTO)
+                .peek(dto -> {
+                    dto.setSwiftCode(dto.getSwiftCode().toUpperCase());
+                    dto.setBankName(dto.getBankName().toUpperCase());
+                    dto.setAddress(dto.getAddress().toUpperCase());
+                    dto.setCountryISO2(dto.getCountryISO2().toUpperCase());
+                    dto.setCountryName(null);
+                    dto.setBranches(Collections.emptyList());
+                })
+                .collect(Collectors.toList());
+
+        CountrySwiftCodesResponseDTO response = new CountrySwiftCodesResponseDTO();
+        response.setCountryISO2(countryIso2Code);
+        response.setCountryName(index.countryName(countryIso2Code).orElse("UNKNOWN").toUpperCase());
+        response.setSwiftCodes(dtoList);
+
+        return response;
+    }
+
+    // Country and branch lists are sorted by SWIFT code, so the cursor position is found by binary search.
+    private static int firstAfter(List<SwiftCode> sorted, String after) {
+        int low = 0;
+        int high = sorted.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted.get(mid).getSwiftCode().compareTo(after) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private SwiftCodeResponseDTO toDetailsDTO(LookupIndex index, SwiftCode code) {
+        return toDetailsDTO(index, code, index.branchesOf(code.getBaseSwiftCode()));
+    }
+
+    private SwiftCodeResponseDTO toDetailsDTO(LookupIndex index, SwiftCode code, List<SwiftCode> branchEntities) {
+        SwiftCodeResponseDTO dto = swiftCodeMapper.toResponseDTO(code);
+        dto.setCountryISO2(dto.getCountryISO2().toUpperCase());
+        index.countryName(dto.getCountryISO2())
+                .ifPresent(name -> dto.setCountryName(name.toUpperCase()));
+
+        if (Boolean.TRUE.equals(code.getIsHeadquarter())) {
+            List<SwiftCodeResponseDTO> branches = branchEntities.stream()
+                    .filter(branch -> !branch.getSwiftCode().equals(code.getSwiftCode()))
+                    .map(swiftCodeMapper::toResponseDTO)
+                    .peek(branchDTO -> {
+                        branchDTO.setCountryISO2(branchDTO.getCountryISO2().toUpperCase());
+                        branchDTO.setCountryName(null);
+                    })
+                    .collect(Collectors.toList());
+            dto.setBranches(branches);
+            dto.setBranchCount(branches.size());
+        }
+
+        return dto;
+    }
+}
@@ -0,0 +1,40 @@
+package com.swiftcodes.app.service;
+
+import com.swiftcodes.app.exception.InvalidDataException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor. It encodes the scope being paged (a country or a headquarters base code)
+ * and the last SWIFT code of the previous page, so the next page can seek past it.
+ */
+final class KeysetCursor {
+
+    private KeysetCursor() {
+    }
+
+    static String encode(String scope, String lastSwiftCode) {
+        String raw = scope + ":" + lastSwiftCode;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the SWIFT code the next page starts after, or an empty string for the first page.
+     */
+    static String decode(String scope, String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return "";
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            if (separator > 0 && raw.substring(0, separator).equals(scope)) {
+                return raw.substring(separator + 1);
+            }
+        } catch (IllegalArgumentException e) {
+            // fall through to the validation error below
+        }
+        throw new InvalidDataException("Invalid cursor for: " + scope);
+    }
+}
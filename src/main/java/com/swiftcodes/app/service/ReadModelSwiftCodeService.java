@@ -0,0 +1,80 @@
+package com.swiftcodes.app.service;
+
+import com.swiftcodes.app.dto.CountrySwiftCodesResponseDTO;
+import com.swiftcodes.app.dto.SwiftCodeLookupResponseDTO;
+import com.swiftcodes.app.dto.SwiftCodeRequestDTO;
+import com.swiftcodes.app.dto.SwiftCodeResponseDTO;
+import com.swiftcodes.app.mapper.SwiftCodeMapper;
+import com.swiftcodes.app.readmodel.SwiftCodeReadModel;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+
+/**
+ * Answers lookups from the in-heap {@link SwiftCodeReadModel} and delegates writes
+ * (and lookups issued before the model is loaded) to {@link SwiftCodeServiceImpl}.
+ */
+@Service
+@Primary
+@ConditionalOnProperty(name = "swiftcodes.lookup.mode", havingValue = "read-model")
+public class ReadModelSwiftCodeService implements SwiftCodeService {
+
+    private final SwiftCodeServiceImpl swiftCodeServiceImpl;
+    private final SwiftCodeReadModel readModel;
+    private final IndexLookups lookups;
+
+    public ReadModelSwiftCodeService(SwiftCodeServiceImpl swiftCodeServiceImpl, SwiftCodeReadModel readModel,
+                                     SwiftCodeMapper swiftCodeMapper) {
+        this.swiftCodeServiceImpl = swiftCodeServiceImpl;
+        this.readModel = readModel;
+        this.lookups = new IndexLookups(swiftCodeMapper);
+    }
+
+    @Override
+    public SwiftCodeResponseDTO getSwiftCode(String swiftCode) {
+        return readModel.current()
+                .map(index -> lookups.getSwiftCode(index, swiftCode))
+                .orElseGet(() -> swiftCodeServiceImpl.getSwiftCode(swiftCode));
+    }
+
+    @Override
+    public SwiftCodeResponseDTO getSwiftCode(String swiftCode, int branchLimit, String branchCursor) {
+        return readModel.current()
+                .map(index -> lookups.getSwiftCode(index, swiftCode, branchLimit, branchCursor))
+                .orElseGet(() -> swiftCodeServiceImpl.getSwiftCode(swiftCode, branchLimit, branchCursor));
+    }
+
+    @Override
+    public SwiftCodeLookupResponseDTO lookupSwiftCodes(Collection<String> swiftCodes) {
+        return readModel.current()
+                .map(index -> lookups.lookupSwiftCodes(index, swiftCodes))
+                .orElseGet(() -> swiftCodeServiceImpl.lookupSwiftCodes(swiftCodes));
+    }
+
+    @Override
+    public CountrySwiftCodesResponseDTO getSwiftCodesByCountry(String countryIso2Code, Pageable pageable) {
+        return readModel.current()
+                .map(index -> lookups.getSwiftCodesByCountry(index, countryIso2Code, pageable))
+                .orElseGet(() -> swiftCodeServiceImpl.getSwiftCodesByCountry(countryIso2Code, pageable));
+    }
+
+    @Override
+    public CountrySwiftCodesResponseDTO getSwiftCodesByCountry(String countryIso2Code, String cursor, int size) {
+        return readModel.current()
+                .map(index -> lookups.getSwiftCodesByCountry(index, countryIso2Code, cursor, size))
+                .orElseGet(() -> swiftCodeServiceImpl.getSwiftCodesByCountry(countryIso2Code, cursor, size));
+    }
+
+    @Override
+    public SwiftCodeResponseDTO addSwiftCode(SwiftCodeRequestDTO swiftCodeRequestDTO) {
+        return swiftCodeServiceImpl.addSwiftCode(swiftCodeRequestDTO);
+    }
+
+    @Override
+    public SwiftCodeResponseDTO deleteSwiftCode(String swiftCode) {
+        return swiftCodeServiceImpl.deleteSwiftCode(swiftCode);
+    }
+}
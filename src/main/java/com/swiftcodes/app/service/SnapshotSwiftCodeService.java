@@ -0,0 +1,74 @@
+package com.swiftcodes.app.service;
+
+import com.swiftcodes.app.dto.CountrySwiftCodesResponseDTO;
+import com.swiftcodes.app.dto.SwiftCodeLookupResponseDTO;
+import com.swiftcodes.app.dto.SwiftCodeRequestDTO;
+import com.swiftcodes.app.dto.SwiftCodeResponseDTO;
+import com.swiftcodes.app.exception.ReadOnlyModeException;
+import com.swiftcodes.app.exception.ServiceUnavailableException;
+import com.swiftcodes.app.mapper.SwiftCodeMapper;
+import com.swiftcodes.app.snapshot.SnapshotIndex;
+import com.swiftcodes.app.snapshot.SnapshotStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+
+/**
+ * Read-only lookups answered from a memory-mapped snapshot, for nodes that run without PostgreSQL.
+ */
+@Service
+@Primary
+@ConditionalOnProperty(name = "swiftcodes.lookup.mode", havingValue = "snapshot")
+public class SnapshotSwiftCodeService implements SwiftCodeService {
+
+    private final SnapshotStore snapshotStore;
+    private final IndexLookups lookups;
+
+    public SnapshotSwiftCodeService(SnapshotStore snapshotStore, SwiftCodeMapper swiftCodeMapper) {
+        this.snapshotStore = snapshotStore;
+        this.lookups = new IndexLookups(swiftCodeMapper);
+    }
+
+    @Override
+    public SwiftCodeResponseDTO getSwiftCode(String swiftCode) {
+        return lookups.getSwiftCode(snapshot(), swiftCode);
+    }
+
+    @Override
+    public SwiftCodeResponseDTO getSwiftCode(String swiftCode, int branchLimit, String branchCursor) {
+        return lookups.getSwiftCode(snapshot(), swiftCode, branchLimit, branchCursor);
+    }
+
+    @Override
+    public SwiftCodeLookupResponseDTO lookupSwiftCodes(Collection<String> swiftCodes) {
+        return lookups.lookupSwiftCodes(snapshot(), swiftCodes);
+    }
+
+    @Override
+    public CountrySwiftCodesResponseDTO getSwiftCodesByCountry(String countryIso2Code, Pageable pageable) {
+        return lookups.getSwiftCodesByCountry(snapshot(), countryIso2Code, pageable);
+    }
+
+    @Override
+    public CountrySwiftCodesResponseDTO getSwiftCodesByCountry(String countryIso2Code, String cursor, int size) {
+        return lookups.getSwiftCodesByCountry(snapshot(), countryIso2Code, cursor, size);
+    }
+
+    @Override
+    public SwiftCodeResponseDTO addSwiftCode(SwiftCodeRequestDTO swiftCodeRequestDTO) {
+        throw new ReadOnlyModeException("This node serves a read-only snapshot. Send writes to the primary.");
+    }
+
+    @Override
+    public SwiftCodeResponseDTO deleteSwiftCode(String swiftCode) {
+        throw new ReadOnlyModeException("This node serves a read-only snapshot. Send writes to the primary.");
+    }
+
+    private SnapshotIndex snapshot() {
+        return snapshotStore.current()
+                .orElseThrow(() -> new ServiceUnavailableException("No SWIFT code snapshot has been loaded yet."));
+    }
+}
@@ -1,6 +1,7 @@
 package com.swiftcodes.app.service;
 
 import com.swiftcodes.app.dto.SwiftCodeFileResponseDTO;
+import com.swiftcodes.app.importer.ImportProgress;
 import org.springframework.web.multipart.MultipartFile;
 import java.io.InputStream;
 
@@ -10,5 +11,7 @@ public interface SwiftCodeFileService {
     SwiftCodeFileResponseDTO parseAndSaveSwiftCodes(MultipartFile file);
 
     SwiftCodeFileResponseDTO parseAndSaveSwiftCodes(InputStream inputStream, String originalFilename);
+
+    SwiftCodeFileResponseDTO parseAndSaveSwiftCodes(InputStream inputStream, String originalFilename, ImportProgress progress);
 }
 
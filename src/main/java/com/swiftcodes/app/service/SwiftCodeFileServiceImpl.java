@@ -1,24 +1,31 @@
 package com.swiftcodes.app.service;
 
+import com.swiftcodes.app.config.ImportProperties;
 import com.swiftcodes.app.dto.SwiftCodeDTO;
 import com.swiftcodes.app.dto.SwiftCodeFileResponseDTO;
+import com.swiftcodes.app.event.SwiftCodesChangedEvent;
 import com.swiftcodes.app.exception.InvalidDataException;
+import com.swiftcodes.app.importer.DeltaImporter;
+import com.swiftcodes.app.importer.ImportProgress;
+import com.swiftcodes.app.importer.ParallelSwiftCodeCsvReader;
+import com.swiftcodes.app.importer.PostgresCopyImporter;
+import com.swiftcodes.app.importer.ShadowTableImporter;
+import com.swiftcodes.app.importer.StreamingSwiftCodeImporter;
+import com.swiftcodes.app.importer.SwiftCodeCsvReader;
+import com.swiftcodes.app.importer.SwiftCodeXlsxReader;
+import com.swiftcodes.app.importer.UploadFormat;
 import com.swiftcodes.app.mapper.SwiftCodeMapper;
-import com.swiftcodes.app.model.Country;
 import com.swiftcodes.app.model.SwiftCode;
-import com.swiftcodes.app.repository.CountryRepository;
+import com.swiftcodes.app.readmodel.CountryRegistry;
+import com.swiftcodes.app.readmodel.HeadquartersRegistry;
 import com.swiftcodes.app.repository.SwiftCodeRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.csv.CSVFormat;
-import org.apache.commons.csv.CSVParser;
-import org.apache.commons.csv.CSVRecord;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -29,7 +36,17 @@ public class SwiftCodeFileServiceImpl implements SwiftCodeFileService {
 
     private final SwiftCodeRepository swiftCodeRepository;
     private final SwiftCodeMapper swiftCodeMapper;
-    private final CountryRepository countryRepository;
+    private final CountryRegistry countryRegistry;
+    private final HeadquartersRegistry headquartersRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ImportProperties importProperties;
+    private final PostgresCopyImporter copyImporter;
+    private final StreamingSwiftCodeImporter streamingImporter;
+    private final ShadowTableImporter shadowTableImporter;
+    private final DeltaImporter deltaImporter;
+    private final ParallelSwiftCodeCsvReader parallelCsvReader;
+    private final SwiftCodeCsvReader sequentialCsvReader = new SwiftCodeCsvReader();
+    private final SwiftCodeXlsxReader xlsxReader = new SwiftCodeXlsxReader();
 
     @Override
     public SwiftCodeFileResponseDTO parseAndSaveSwiftCodes(MultipartFile file) {
@@ -43,100 +60,101 @@ public class SwiftCodeFileServiceImpl implements SwiftCodeFileService {
 
     @Override
     public SwiftCodeFileResponseDTO parseAndSaveSwiftCodes(InputStream inputStream, String originalFilename) {
-        if (originalFilename == null || !originalFilename.toLowerCase().endsWith(".csv")) {
-            throw new InvalidDataException("Invalid file format. Please upload a CSV file.");
+        return parseAndSaveSwiftCodes(inputStream, originalFilename, new ImportProgress());
+    }
+
+    @Override
+    public SwiftCodeFileResponseDTO parseAndSaveSwiftCodes(InputStream inputStream, String originalFilename,
+                                                           ImportProgress progress) {
+        SwiftCodeCsvReader csvReader = readerFor(originalFilename);
+        SwiftCodeFileResponseDTO response = switch (importProperties.getEngine()) {
+            case COPY -> copyImporter.importCsv(inputStream, csvReader, progress);
+            case STREAMING -> streamingImporter.importCsv(inputStream, csvReader, progress);
+            case REPLACE -> shadowTableImporter.importCsv(inputStream, csvReader, progress);
+            case DELTA -> deltaImporter.importCsv(inputStream, csvReader, progress);
+            case JPA -> importWithJpa(inputStream, csvReader, progress);
+        };
+
+        eventPublisher.publishEvent(SwiftCodesChangedEvent.imported());
+        return response;
+    }
+
+    private SwiftCodeCsvReader readerFor(String originalFilename) {
+        if (UploadFormat.fromFileName(originalFilename) == UploadFormat.XLSX) {
+            return xlsxReader;
         }
+        return importProperties.getParsing().getMode() == ImportProperties.Parsing.Mode.PARALLEL
+                ? parallelCsvReader
+                : sequentialCsvReader;
+    }
 
+    private SwiftCodeFileResponseDTO importWithJpa(InputStream inputStream, SwiftCodeCsvReader csvReader,
+                                                   ImportProgress progress) {
         List<SwiftCodeDTO> headquarters = new ArrayList<>();
         List<SwiftCodeDTO> branches = new ArrayList<>();
         Set<String> uniqueCountries = new HashSet<>();
-        int totalRecords = 0;
-        int skippedRecords = 0;
-
-        try (InputStreamReader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8);
-             CSVParser csvParser = new CSVParser(reader, CSVFormat.DEFAULT
-                     .withFirstRecordAsHeader()
-                     .withIgnoreHeaderCase()
-                     .withTrim())) {
-
-            // Walidacja wymaganych nagłówków
-            Map<String, Integer> headerMap = csvParser.getHeaderMap();
-            List<String> requiredHeaders = Arrays.asList("COUNTRY ISO2 CODE", "SWIFT CODE", "NAME", "ADDRESS", "COUNTRY NAME");
-            for (String header : requiredHeaders) {
-                if (!headerMap.containsKey(header)) {
-                    throw new InvalidDataException("CSV file is missing required column: " + header);
-                }
-            }
-
-            for (CSVRecord csvRecord : csvParser) {
-                totalRecords++;
-
-                String swiftCode = csvRecord.get("SWIFT CODE").trim();
-                String bankName = csvRecord.get("NAME").trim();
-                String address = csvRecord.get("ADDRESS").trim();
-                String countryISO2 = csvRecord.get("COUNTRY ISO2 CODE").trim().toUpperCase();
-                String countryName = csvRecord.get("COUNTRY NAME").trim();
-
-                if (swiftCode.length() != 11) {
-                    log.warn("Skipping record {}: SWIFT code '{}' is invalid.", totalRecords, swiftCode);
-                    skippedRecords++;
-                    continue;
-                }
 
+        try {
+            SwiftCodeCsvReader.Summary summary = csvReader.read(inputStream, progress, row -> {
                 SwiftCodeDTO swiftCodeDTO = SwiftCodeDTO.builder()
-                        .swiftCode(swiftCode)
-                        .bankName(bankName.toUpperCase())
-                        .address(address.toUpperCase())
-                        .countryISO2(countryISO2)
-                        .countryName(countryName.toUpperCase())
-                        .isHeadquarter(swiftCode.endsWith("XXX"))
+                        .swiftCode(row.getSwiftCode())
+                        .bankName(row.getBankName())
+                        .address(row.getAddress())
+                        .countryISO2(row.getCountryISO2())
+                        .countryName(row.getCountryName())
+                        .isHeadquarter(row.isHeadquarter())
                         .build();
 
-                uniqueCountries.add(countryISO2);
+                uniqueCountries.add(row.getCountryISO2());
 
                 if (swiftCodeDTO.getIsHeadquarter()) {
                     headquarters.add(swiftCodeDTO);
                 } else {
                     branches.add(swiftCodeDTO);
                 }
-            }
+            });
+            int totalRecords = summary.getTotalRecords();
+            int skippedRecords = summary.getSkippedRecords();
 
-            List<Country> countriesToSave = uniqueCountries.stream()
-                    .filter(iso -> !countryRepository.existsById(iso))
-                    .map(iso -> new Country(iso, iso))
-                    .collect(Collectors.toList());
-            countryRepository.saveAll(countriesToSave);
-            log.info("Saved {} new countries to database.", countriesToSave.size());
+            int newCountries = countryRegistry.createMissing(uniqueCountries.stream()
+                    .collect(Collectors.toMap(iso -> iso, iso -> iso)));
+            log.info("Saved {} new countries to database.", newCountries);
 
             List<SwiftCode> headquartersEntities = headquarters.stream()
                     .map(swiftCodeMapper::toEntity)
                     .collect(Collectors.toList());
-            swiftCodeRepository.saveAll(headquartersEntities);
+            swiftCodeRepository.upsertAll(headquartersEntities);
+            progress.recordHeadquartersSaved(headquartersEntities.size());
             log.info("Saved {} headquarters to database.", headquartersEntities.size());
 
-            Set<String> existingHeadquarters = swiftCodeRepository.findAllByIsHeadquarterTrue().stream()
-                    .map(sc -> calculateBaseSwiftCode(sc.getSwiftCode()))
-                    .collect(Collectors.toSet());
+            headquartersRegistry.register(headquarters.stream()
+                    .map(hq -> calculateBaseSwiftCode(hq.getSwiftCode()))
+                    .collect(Collectors.toSet()));
 
+            Set<String> knownHeadquarters = headquartersRegistry.existing(branches.stream()
+                    .map(branch -> calculateBaseSwiftCode(branch.getSwiftCode()))
+                    .collect(Collectors.toSet()));
             List<SwiftCode> branchesToSave = new ArrayList<>();
             for (SwiftCodeDTO branch : branches) {
                 String baseSwiftCode = calculateBaseSwiftCode(branch.getSwiftCode());
-                if (existingHeadquarters.contains(baseSwiftCode)) {
+                if (knownHeadquarters.contains(baseSwiftCode)) {
                     branch.setBaseSwiftCode(baseSwiftCode);
                     branchesToSave.add(swiftCodeMapper.toEntity(branch));
                 } else {
                     log.warn("Skipping branch {}: No matching headquarters found. Expected base_swift_code: {}", branch.getSwiftCode(), baseSwiftCode);
                     skippedRecords++;
+                    progress.recordSkipped(1);
                 }
             }
 
-            swiftCodeRepository.saveAll(branchesToSave);
+            swiftCodeRepository.upsertAll(branchesToSave);
+            progress.recordBranchesSaved(branchesToSave.size());
             log.info("Saved {} branch offices to database.", branchesToSave.size());
 
             return new SwiftCodeFileResponseDTO(
                     totalRecords,
                     skippedRecords,
-                    countriesToSave.size(),
+                    newCountries,
                     headquartersEntities.size(),
                     branchesToSave.size()
             );
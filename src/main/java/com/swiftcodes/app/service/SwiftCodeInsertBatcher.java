@@ -0,0 +1,171 @@
+package com.swiftcodes.app.service;
+
+import com.swiftcodes.app.config.WriteBatchingProperties;
+import com.swiftcodes.app.dto.SwiftCodeRequestDTO;
+import com.swiftcodes.app.dto.SwiftCodeResponseDTO;
+import com.swiftcodes.app.exception.DatabaseException;
+import com.swiftcodes.app.exception.ServiceUnavailableException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Group commit for {@code addSwiftCode}. Concurrent inserts are queued and written by a single thread
+ * in batches of up to {@code max-batch-size}, collected for at most {@code max-delay} after the first
+ * one arrives, so one transaction and one commit serve many requests. Every caller still receives its
+ * own result or exception.
+ */
+@Slf4j
+@Component
+@ConditionalOnExpression(SwiftCodeInsertBatcher.ENABLED)
+public class SwiftCodeInsertBatcher {
+
+    public static final String ENABLED =
+            "${swiftcodes.write-batching.enabled:false} and '${swiftcodes.lookup.mode:database}' != 'snapshot'";
+
+    private final SwiftCodeServiceImpl swiftCodeServiceImpl;
+    private final WriteBatchingProperties properties;
+    private final BlockingQueue<PendingInsert> queue;
+    private final Thread writer;
+    private volatile boolean running;
+
+    public SwiftCodeInsertBatcher(SwiftCodeServiceImpl swiftCodeServiceImpl, WriteBatchingProperties properties) {
+        if (properties.getMaxBatchSize() < 1) {
+            throw new IllegalStateException("Write batching max-batch-size must be greater than zero.");
+        }
+        this.swiftCodeServiceImpl = swiftCodeServiceImpl;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.writer = Thread.ofPlatform().name("swift-insert-batcher").daemon().unstarted(this::writeBatches);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writer.start();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        writer.interrupt();
+        writer.join(1_000);
+        failPending(new ServiceUnavailableException("Service is shutting down. Please try again later."));
+    }
+
+    public SwiftCodeResponseDTO addSwiftCode(SwiftCodeRequestDTO swiftCodeRequestDTO) {
+        PendingInsert pending = new PendingInsert(swiftCodeRequestDTO, new CompletableFuture<>());
+        if (!running || !queue.offer(pending)) {
+            throw new ServiceUnavailableException("Too many SWIFT code inserts in progress. Please try again later.");
+        }
+        try {
+            return pending.result().get(properties.getTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new DatabaseException("Failed to add SWIFT code due to database error.", e.getCause());
+        } catch (TimeoutException e) {
+            // The insert may still be written later; the caller only learns that it was not confirmed in time.
+            log.warn("Timed out waiting for SWIFT code {} to be written", swiftCodeRequestDTO.getSwiftCode());
+            throw new ServiceUnavailableException("Timed out adding SWIFT code. Please try again later.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Service is shutting down. Please try again later.");
+        }
+    }
+
+    int queuedInserts() {
+        return queue.size();
+    }
+
+    private void writeBatches() {
+        int maxBatchSize = properties.getMaxBatchSize();
+        long maxDelayNanos = properties.getMaxDelay().toNanos();
+        List<PendingInsert> batch = new ArrayList<>(maxBatchSize);
+        while (running) {
+            try {
+                batch.add(queue.take());
+                long deadline = System.nanoTime() + maxDelayNanos;
+                while (batch.size() < maxBatchSize) {
+                    // Once the deadline has passed this only picks up inserts that are already queued.
+                    PendingInsert next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                batch.forEach(pending -> pending.result().completeExceptionally(
+                        new ServiceUnavailableException("Service is shutting down. Please try again later.")));
+                return;
+            } catch (Throwable t) {
+                // Keeps the single writer alive; otherwise every later insert would wait until it times out.
+                log.error("Unexpected error writing batch of {} SWIFT codes", batch.size(), t);
+                DatabaseException failure = new DatabaseException("Failed to add SWIFT code due to database error.", t);
+                batch.forEach(pending -> pending.result().completeExceptionally(failure));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<PendingInsert> batch) {
+        if (batch.size() == 1) {
+            writeSingle(batch.get(0));
+            return;
+        }
+
+        List<SwiftCodeRequestDTO> requests = batch.stream().map(PendingInsert::request).toList();
+        List<SwiftCodeServiceImpl.InsertOutcome> outcomes;
+        try {
+            outcomes = swiftCodeServiceImpl.addSwiftCodes(requests);
+        } catch (RuntimeException e) {
+            // One failing row rolls back the whole transaction, so each insert is retried on its own
+            // to give the others their own outcome.
+            log.warn("Batch of {} SWIFT code inserts failed, retrying them one by one", batch.size(), e);
+            batch.forEach(this::writeSingle);
+            return;
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            SwiftCodeServiceImpl.InsertOutcome outcome = outcomes.get(i);
+            if (outcome.error() != null) {
+                batch.get(i).result().completeExceptionally(outcome.error());
+            } else {
+                batch.get(i).result().complete(outcome.response());
+            }
+        }
+    }
+
+    // Goes through the regular addSwiftCode path, retries and error mapping included, as without batching.
+    private void writeSingle(PendingInsert pending) {
+        try {
+            pending.result().complete(swiftCodeServiceImpl.addSwiftCode(pending.request()));
+        } catch (RuntimeException e) {
+            pending.result().completeExceptionally(e);
+        }
+    }
+
+    private void failPending(RuntimeException error) {
+        List<PendingInsert> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.forEach(pending -> pending.result().completeExceptionally(error));
+    }
+
+    private record PendingInsert(SwiftCodeRequestDTO request, CompletableFuture<SwiftCodeResponseDTO> result) {
+    }
+}
@@ -1,16 +1,25 @@
 package com.swiftcodes.app.service;
 
 import com.swiftcodes.app.dto.CountrySwiftCodesResponseDTO;
+import com.swiftcodes.app.dto.SwiftCodeLookupResponseDTO;
 import com.swiftcodes.app.dto.SwiftCodeRequestDTO;
 import com.swiftcodes.app.dto.SwiftCodeResponseDTO;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
+
 public interface SwiftCodeService {
 
     SwiftCodeResponseDTO getSwiftCode(String swiftCode);
 
+    SwiftCodeResponseDTO getSwiftCode(String swiftCode, int branchLimit, String branchCursor);
+
+    SwiftCodeLookupResponseDTO lookupSwiftCodes(Collection<String> swiftCodes);
+
     CountrySwiftCodesResponseDTO getSwiftCodesByCountry(String countryIso2Code, Pageable pageable);
 
+    CountrySwiftCodesResponseDTO getSwiftCodesByCountry(String countryIso2Code, String cursor, int size);
+
     SwiftCodeResponseDTO addSwiftCode(SwiftCodeRequestDTO swiftCodeRequestDTO);
 
     SwiftCodeResponseDTO deleteSwiftCode(String swiftCode);
@@ -1,27 +1,40 @@
 package com.swiftcodes.app.service;
 
 import com.swiftcodes.app.dto.CountrySwiftCodesResponseDTO;
+import com.swiftcodes.app.dto.SwiftCodeLookupResponseDTO;
 import com.swiftcodes.app.dto.SwiftCodeRequestDTO;
 import com.swiftcodes.app.dto.SwiftCodeResponseDTO;
+import com.swiftcodes.app.event.SwiftCodesChangedEvent;
 import com.swiftcodes.app.exception.DatabaseException;
 import com.swiftcodes.app.exception.DuplicateEntryException;
 import com.swiftcodes.app.exception.InvalidDataException;
 import com.swiftcodes.app.exception.ResourceNotFoundException;
 import com.swiftcodes.app.mapper.SwiftCodeMapper;
-import com.swiftcodes.app.model.Country;
 import com.swiftcodes.app.model.SwiftCode;
-import com.swiftcodes.app.repository.CountryRepository;
+import com.swiftcodes.app.readmodel.CountryRegistry;
+import com.swiftcodes.app.readmodel.HeadquartersRegistry;
+import com.swiftcodes.app.readmodel.KnownSwiftCodesFilter;
+import com.swiftcodes.app.repository.SwiftCodeDetailsView;
 import com.swiftcodes.app.repository.SwiftCodeRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -32,38 +45,110 @@ public class SwiftCodeServiceImpl implements SwiftCodeService {
 
     private final SwiftCodeRepository swiftCodeRepository;
     private final SwiftCodeMapper swiftCodeMapper;
-    private final CountryRepository countryRepository;
+    private final CountryRegistry countryRegistry;
+    private final HeadquartersRegistry headquartersRegistry;
+    private final KnownSwiftCodesFilter knownSwiftCodesFilter;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional(readOnly = true)
     public SwiftCodeResponseDTO getSwiftCode(String swiftCode) {
         log.info("Fetching SWIFT code: {}", swiftCode);
+        rejectUnknown(swiftCode);
 
-        SwiftCode code = swiftCodeRepository.findById(swiftCode)
+        // Headquarters row, its branches and the country name come back from a single statement.
+        String baseSwiftCode = swiftCode.length() >= 8 ? swiftCode.substring(0, 8) : swiftCode;
+        List<SwiftCodeDetailsView> rows = swiftCodeRepository.findWithBranches(swiftCode, baseSwiftCode);
+
+        SwiftCodeDetailsView code = rows.stream()
+                .filter(row -> row.swiftCode().equals(swiftCode))
+                .findFirst()
                 .orElseThrow(() -> new ResourceNotFoundException("SWIFT code not found: " + swiftCode));
 
-        SwiftCodeResponseDTO dto = swiftCodeMapper.toResponseDTO(code);
-        dto.setCountryISO2(dto.getCountryISO2().toUpperCase());
+        return toDetailsDTO(code, rows.stream().filter(row -> row != code).toList());
+    }
 
-        countryRepository.findById(dto.getCountryISO2())
-                .ifPresent(country -> dto.setCountryName(country.getName().toUpperCase()));
+    @Override
+    @Transactional(readOnly = true)
+    public SwiftCodeResponseDTO getSwiftCode(String swiftCode, int branchLimit, String branchCursor) {
+        log.info("Fetching SWIFT code: {} with up to {} branches", swiftCode, branchLimit);
+        rejectUnknown(swiftCode);
 
-        if (Boolean.TRUE.equals(code.getIsHeadquarter())) {
-            List<SwiftCode> branchEntities = swiftCodeRepository.findBranchesByHeadquarter(calculateBaseSwiftCode(code.getSwiftCode()));
-            List<SwiftCodeResponseDTO> branches = branchEntities.stream()
-                    .filter(branch -> !branch.getSwiftCode().equals(swiftCode))
-                    .map(swiftCodeMapper::toResponseDTO)
-                    .peek(branchDTO -> {
-                        branchDTO.setCountryISO2(branchDTO.getCountryISO2().toUpperCase());
-                        branchDTO.setCountryName(null);
-                    })
-                    .collect(Collectors.toList());
-            dto.setBranches(branches);
+        if (branchLimit < 1) {
+            throw new InvalidDataException("Branch limit must be greater than zero.");
+        }
+
+        String baseSwiftCode = swiftCode.length() >= 8 ? swiftCode.substring(0, 8) : swiftCode;
+        String after = KeysetCursor.decode(baseSwiftCode, branchCursor);
+        // The requested row sorts first, followed by one branch more than the limit to detect a next page.
+        List<SwiftCodeDetailsView> rows = swiftCodeRepository.findWithBranchPage(
+                swiftCode, baseSwiftCode, after, Limit.of(branchLimit + 2));
+
+        if (rows.isEmpty() || !rows.get(0).swiftCode().equals(swiftCode)) {
+            throw new ResourceNotFoundException("SWIFT code not found: " + swiftCode);
+        }
+        SwiftCodeDetailsView code = rows.get(0);
+        List<SwiftCodeDetailsView> branchRows = rows.subList(1, rows.size());
+        boolean hasMore = branchRows.size() > branchLimit;
+        if (hasMore) {
+            branchRows = branchRows.subList(0, branchLimit);
         }
 
+        SwiftCodeResponseDTO dto = toDetailsDTO(code, branchRows);
+        if (Boolean.TRUE.equals(code.isHeadquarter())) {
+            dto.setBranchCount((int) swiftCodeRepository.countBranchesByHeadquarter(baseSwiftCode));
+            if (hasMore) {
+                dto.setNextBranchCursor(KeysetCursor.encode(baseSwiftCode, branchRows.get(branchRows.size() - 1).swiftCode()));
+            }
+        }
         return dto;
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public SwiftCodeLookupResponseDTO lookupSwiftCodes(Collection<String> swiftCodes) {
+        log.info("Looking up {} SWIFT codes", swiftCodes.size());
+
+        Set<String> requested = new LinkedHashSet<>(swiftCodes);
+        Set<String> candidates = requested.stream()
+                .filter(knownSwiftCodesFilter::mightContain)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<String, SwiftCode> codesById = candidates.isEmpty()
+                ? Collections.emptyMap()
+                : swiftCodeRepository.findAllById(candidates).stream()
+                        .collect(Collectors.toMap(SwiftCode::getSwiftCode, code -> code));
+
+        Set<String> headquarterBases = codesById.values().stream()
+                .filter(code -> Boolean.TRUE.equals(code.getIsHeadquarter()))
+                .map(code -> calculateBaseSwiftCode(code.getSwiftCode()))
+                .collect(Collectors.toSet());
+        Map<String, List<SwiftCode>> branchesByBase = headquarterBases.isEmpty()
+                ? Collections.emptyMap()
+                : swiftCodeRepository.findBranchesByHeadquarters(headquarterBases).stream()
+                        .collect(Collectors.groupingBy(branch -> calculateBaseSwiftCode(branch.getSwiftCode())));
+
+        Set<String> countryCodes = codesById.values().stream()
+                .map(code -> code.getCountryIso2Code().toUpperCase())
+                .collect(Collectors.toSet());
+        Map<String, String> countryNames = countryRegistry.findNames(countryCodes);
+
+        Map<String, SwiftCodeResponseDTO> found = new LinkedHashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String swiftCode : requested) {
+            SwiftCode code = codesById.get(swiftCode);
+            if (code == null) {
+                missing.add(swiftCode);
+                continue;
+            }
+            List<SwiftCode> branchEntities = Boolean.TRUE.equals(code.getIsHeadquarter())
+                    ? branchesByBase.getOrDefault(calculateBaseSwiftCode(code.getSwiftCode()), Collections.emptyList())
+                    : Collections.emptyList();
+            found.put(swiftCode, toDetailsDTO(code, countryNames.get(code.getCountryIso2Code().toUpperCase()), branchEntities));
+        }
+
+        return new SwiftCodeLookupResponseDTO(found, missing);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public CountrySwiftCodesResponseDTO getSwiftCodesByCountry(String countryIso2Code, Pageable pageable) {
@@ -81,6 +166,43 @@ public class SwiftCodeServiceImpl implements SwiftCodeService {
             throw new ResourceNotFoundException("No SWIFT codes found for country: " + countryIso2Code);
         }
 
+        return toCountryResponse(countryIso2Code.toUpperCase(), codes);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CountrySwiftCodesResponseDTO getSwiftCodesByCountry(String countryIso2Code, String cursor, int size) {
+        log.info("Fetching SWIFT codes for country: {} after cursor", countryIso2Code);
+
+        if (!countryIso2Code.matches("^[A-Z]{2}$")) {
+            log.warn("Invalid country ISO2 format: {}", countryIso2Code);
+            throw new InvalidDataException("Country ISO2 code must be exactly 2 uppercase letters.");
+        }
+        if (size < 1) {
+            throw new InvalidDataException("Page size must be greater than zero.");
+        }
+
+        String after = KeysetCursor.decode(countryIso2Code, cursor);
+        List<SwiftCode> codes = swiftCodeRepository.findByCountryIso2CodeAndSwiftCodeGreaterThanOrderBySwiftCodeAsc(
+                countryIso2Code, after, Limit.of(size + 1));
+
+        if (codes.isEmpty() && after.isEmpty()) {
+            log.warn("No SWIFT codes found for country: {}", countryIso2Code);
+            throw new ResourceNotFoundException("No SWIFT codes found for country: " + countryIso2Code);
+        }
+
+        // One extra row is fetched to tell whether another page follows.
+        boolean hasMore = codes.size() > size;
+        List<SwiftCode> page = hasMore ? codes.subList(0, size) : codes;
+
+        CountrySwiftCodesResponseDTO response = toCountryResponse(countryIso2Code, page);
+        if (hasMore) {
+            response.setNextCursor(KeysetCursor.encode(countryIso2Code, page.get(page.size() - 1).getSwiftCode()));
+        }
+        return response;
+    }
+
+    private CountrySwiftCodesResponseDTO toCountryResponse(String countryIso2Code, List<SwiftCode> codes) {
         List<SwiftCodeResponseDTO> dtoList = codes.stream()
                 .map(swiftCodeMapper::toResponseDTO)
                 .peek(dto -> {
@@ -93,15 +215,11 @@ public class SwiftCodeServiceImpl implements SwiftCodeService {
                 })
                 .collect(Collectors.toList());
 
-        Country country = countryRepository.findById(countryIso2Code.toUpperCase())
-                .orElse(new Country(
-                        countryIso2Code.toUpperCase(),
-                        "UNKNOWN"
-                ));
+        String countryName = countryRegistry.findName(countryIso2Code).orElse("UNKNOWN");
 
         CountrySwiftCodesResponseDTO response = new CountrySwiftCodesResponseDTO();
-        response.setCountryISO2(countryIso2Code.toUpperCase());
-        response.setCountryName(country.getName().toUpperCase());
+        response.setCountryISO2(countryIso2Code);
+        response.setCountryName(countryName.toUpperCase());
         response.setSwiftCodes(dtoList);
 
         return response;
@@ -111,39 +229,60 @@ public class SwiftCodeServiceImpl implements SwiftCodeService {
     @Retryable(value = { Exception.class }, maxAttempts = 3)
     public SwiftCodeResponseDTO addSwiftCode(SwiftCodeRequestDTO swiftCodeRequestDTO) {
         log.info("Attempting to add new SWIFT code: {}", swiftCodeRequestDTO.getSwiftCode());
+        return insert(swiftCodeRequestDTO, new HashSet<>());
+    }
 
-        if (swiftCodeRepository.existsById(swiftCodeRequestDTO.getSwiftCode())) {
-            throw new DuplicateEntryException("SWIFT code already exists: " + swiftCodeRequestDTO.getSwiftCode());
+    /**
+     * Adds the requests coalesced by {@link SwiftCodeInsertBatcher} in one transaction. A duplicate or
+     * invalid request only fails its own outcome; branches may refer to headquarters added earlier in
+     * the same batch.
+     */
+    public List<InsertOutcome> addSwiftCodes(List<SwiftCodeRequestDTO> swiftCodeRequestDTOs) {
+        log.info("Attempting to add batch of {} SWIFT codes", swiftCodeRequestDTOs.size());
+        Set<String> batchHeadquarters = new HashSet<>();
+        List<InsertOutcome> outcomes = new ArrayList<>(swiftCodeRequestDTOs.size());
+        for (SwiftCodeRequestDTO swiftCodeRequestDTO : swiftCodeRequestDTOs) {
+            try {
+                outcomes.add(new InsertOutcome(insert(swiftCodeRequestDTO, batchHeadquarters), null));
+            } catch (DuplicateEntryException | InvalidDataException e) {
+                outcomes.add(new InsertOutcome(null, e));
+            }
         }
+        return outcomes;
+    }
 
+    private SwiftCodeResponseDTO insert(SwiftCodeRequestDTO swiftCodeRequestDTO, Set<String> batchHeadquarters) {
         swiftCodeRequestDTO.setCountryISO2(swiftCodeRequestDTO.getCountryISO2().toUpperCase());
         swiftCodeRequestDTO.setBankName(swiftCodeRequestDTO.getBankName().toUpperCase());
         swiftCodeRequestDTO.setAddress(swiftCodeRequestDTO.getAddress().toUpperCase());
 
         String countryName = Optional.ofNullable(swiftCodeRequestDTO.getCountryName())
                 .map(String::toUpperCase)
-                .orElseGet(() -> countryRepository.findById(swiftCodeRequestDTO.getCountryISO2())
-                        .map(country -> country.getName().toUpperCase())
+                .orElseGet(() -> countryRegistry.findName(swiftCodeRequestDTO.getCountryISO2())
+                        .map(String::toUpperCase)
                         .orElse("UNKNOWN"));
 
         String baseSwiftCode = calculateBaseSwiftCode(swiftCodeRequestDTO.getSwiftCode());
         if (Boolean.FALSE.equals(swiftCodeRequestDTO.getIsHeadquarter())) {
-            boolean headquarterExists = swiftCodeRepository.findAllByIsHeadquarterTrue().stream()
-                    .anyMatch(hq -> calculateBaseSwiftCode(hq.getSwiftCode()).equals(baseSwiftCode));
-            if (!headquarterExists) {
+            if (!headquartersRegistry.exists(baseSwiftCode) && !batchHeadquarters.contains(baseSwiftCode)) {
                 throw new InvalidDataException("Branch SWIFT code must have a matching headquarters.");
             }
         }
 
-        countryRepository.findById(swiftCodeRequestDTO.getCountryISO2()).orElseGet(() -> {
-            Country newCountry = new Country(swiftCodeRequestDTO.getCountryISO2(), swiftCodeRequestDTO.getCountryName().toUpperCase());
-            countryRepository.save(newCountry);
-            return newCountry;
-        });
+        countryRegistry.getOrCreate(swiftCodeRequestDTO.getCountryISO2(), countryName);
 
         SwiftCode swiftCodeEntity = swiftCodeMapper.toEntity(swiftCodeRequestDTO);
         swiftCodeEntity.setBaseSwiftCode(baseSwiftCode);
-        swiftCodeRepository.save(swiftCodeEntity);
+        // The insert itself detects duplicates; checks above only read in-memory registries.
+        if (swiftCodeRepository.insertIfAbsent(swiftCodeEntity) == 0) {
+            throw new DuplicateEntryException("SWIFT code already exists: " + swiftCodeEntity.getSwiftCode());
+        }
+        if (Boolean.TRUE.equals(swiftCodeEntity.getIsHeadquarter())) {
+            headquartersRegistry.register(List.of(baseSwiftCode));
+            batchHeadquarters.add(baseSwiftCode);
+        }
+        eventPublisher.publishEvent(SwiftCodesChangedEvent.upserted(
+                swiftCodeEntity.getSwiftCode(), swiftCodeEntity.getCountryIso2Code()));
 
         log.info("SWIFT code {} added successfully", swiftCodeEntity.getSwiftCode());
         return swiftCodeMapper.toResponseDTO(swiftCodeEntity);
@@ -162,6 +301,10 @@ public class SwiftCodeServiceImpl implements SwiftCodeService {
         try {
             SwiftCodeResponseDTO deletedCodeDTO = swiftCodeMapper.toResponseDTO(code);
             swiftCodeRepository.delete(code);
+            if (Boolean.TRUE.equals(code.getIsHeadquarter())) {
+                headquartersRegistry.unregister(calculateBaseSwiftCode(code.getSwiftCode()));
+            }
+            eventPublisher.publishEvent(SwiftCodesChangedEvent.deleted(code.getSwiftCode(), code.getCountryIso2Code()));
             log.info("SWIFT code {} deleted successfully", swiftCode);
             return deletedCodeDTO;
         } catch (Exception e) {
@@ -171,7 +314,62 @@ public class SwiftCodeServiceImpl implements SwiftCodeService {
     }
 
 
-    private String calculateBaseSwiftCode(String swiftCode) {
+    private SwiftCodeResponseDTO toDetailsDTO(SwiftCodeDetailsView code, List<SwiftCodeDetailsView> branchRows) {
+        SwiftCodeResponseDTO dto = swiftCodeMapper.toResponseDTO(code);
+        dto.setCountryISO2(dto.getCountryISO2().toUpperCase());
+        dto.setCountryName(code.countryName() == null ? null : code.countryName().toUpperCase());
+
+        if (Boolean.TRUE.equals(code.isHeadquarter())) {
+            List<SwiftCodeResponseDTO> branches = branchRows.stream()
+                    .map(swiftCodeMapper::toResponseDTO)
+                    .peek(branchDTO -> {
+                        branchDTO.setCountryISO2(branchDTO.getCountryISO2().toUpperCase());
+                        branchDTO.setCountryName(null);
+                    })
+                    .collect(Collectors.toList());
+            dto.setBranches(branches);
+            dto.setBranchCount(branches.size());
+        }
+
+        return dto;
+    }
+
+    private SwiftCodeResponseDTO toDetailsDTO(SwiftCode code, String countryName, List<SwiftCode> branchEntities) {
+        SwiftCodeResponseDTO dto = swiftCodeMapper.toResponseDTO(code);
+        dto.setCountryISO2(dto.getCountryISO2().toUpperCase());
+
+        if (countryName != null) {
+            dto.setCountryName(countryName.toUpperCase());
+        }
+
+        if (Boolean.TRUE.equals(code.getIsHeadquarter())) {
+            List<SwiftCodeResponseDTO> branches = branchEntities.stream()
+                    .filter(branch -> !branch.getSwiftCode().equals(code.getSwiftCode()))
+                    .map(swiftCodeMapper::toResponseDTO)
+                    .peek(branchDTO -> {
+                        branchDTO.setCountryISO2(branchDTO.getCountryISO2().toUpperCase());
+                        branchDTO.setCountryName(null);
+                    })
+                    .collect(Collectors.toList());
+            dto.setBranches(branches);
+            dto.setBranchCount(branches.size());
+        }
+
+        return dto;
+    }
+
+    // Definite misses are answered without a database round trip and without capturing a stack trace.
+    private void rejectUnknown(String swiftCode) {
+        if (!knownSwiftCodesFilter.mightContain(swiftCode)) {
+            throw new ResourceNotFoundException("SWIFT code not found: " + swiftCode, false);
+        }
+    }
+
+    /** Result of one request of a batch insert: either the added code or the error it failed with. */
+    public record InsertOutcome(SwiftCodeResponseDTO response, RuntimeException error) {
+    }
+
+    static String calculateBaseSwiftCode(String swiftCode) {
         if (swiftCode == null || swiftCode.length() < 8) {
             throw new InvalidDataException("Invalid SWIFT code provided for base calculation.");
         }
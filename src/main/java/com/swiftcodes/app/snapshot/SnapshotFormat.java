@@ -0,0 +1,66 @@
+package com.swiftcodes.app.snapshot;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Layout of a SWIFT directory snapshot file. All integers are big-endian.
+ * <pre>
+ * header      64 bytes   magic, version, counts, section offsets, creation time
+ * records     32 bytes   per SWIFT code, sorted by code:
+ *                        code[11] ASCII, headquarter flag[1], country[2] ASCII, padding[2],
+ *                        name offset, name length, address offset, address length
+ * countries   20 bytes   per country, sorted by ISO2 code:
+ *                        country[2] ASCII, padding[2], name offset, name length,
+ *                        first position, position count
+ * positions    4 bytes   per SWIFT code: record numbers ordered by country, then code
+ * strings                UTF-8 bank names, addresses and country names, deduplicated
+ * </pre>
+ * String lengths of {@code -1} stand for {@code null}.
+ */
+final class SnapshotFormat {
+
+    static final byte[] MAGIC = "SWIFTSNP".getBytes(StandardCharsets.US_ASCII);
+    static final int VERSION = 1;
+
+    static final int HEADER_SIZE = 64;
+    static final int VERSION_OFFSET = 8;
+    static final int RECORD_COUNT_OFFSET = 12;
+    static final int COUNTRY_COUNT_OFFSET = 16;
+    static final int RECORDS_OFFSET = 20;
+    static final int COUNTRIES_OFFSET = 24;
+    static final int POSITIONS_OFFSET = 28;
+    static final int STRINGS_OFFSET = 32;
+    static final int STRINGS_LENGTH_OFFSET = 36;
+    static final int CREATED_AT_OFFSET = 40;
+
+    static final int CODE_LENGTH = 11;
+    static final int BASE_LENGTH = 8;
+    static final int ISO2_LENGTH = 2;
+
+    static final int RECORD_SIZE = 32;
+    static final int RECORD_HEADQUARTER = 11;
+    static final int RECORD_COUNTRY = 12;
+    static final int RECORD_NAME = 16;
+    static final int RECORD_ADDRESS = 24;
+
+    static final int COUNTRY_SIZE = 20;
+    static final int COUNTRY_NAME = 4;
+    static final int COUNTRY_FIRST_POSITION = 12;
+    static final int COUNTRY_POSITION_COUNT = 16;
+
+    private SnapshotFormat() {
+    }
+
+    /** Codes and ISO2 codes are stored as fixed-width single-byte ASCII. */
+    static boolean isAscii(String value, int length) {
+        if (value == null || value.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (value.charAt(i) > 0x7F) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
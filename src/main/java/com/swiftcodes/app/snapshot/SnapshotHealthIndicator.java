@@ -0,0 +1,31 @@
+package com.swiftcodes.app.snapshot;
+
+import com.swiftcodes.app.config.SnapshotProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports a snapshot lookup node as down until a snapshot is mapped, so it receives no traffic before then.
+ */
+@Component("snapshot")
+@ConditionalOnProperty(name = "swiftcodes.lookup.mode", havingValue = "snapshot")
+@RequiredArgsConstructor
+public class SnapshotHealthIndicator implements HealthIndicator {
+
+    private final SnapshotStore snapshotStore;
+    private final SnapshotProperties properties;
+
+    @Override
+    public Health health() {
+        return snapshotStore.current()
+                .map(snapshot -> Health.up()
+                        .withDetail("path", properties.getPath().toString())
+                        .withDetail("swiftCodes", snapshot.size())
+                        .withDetail("createdAt", snapshot.getCreatedAt().toString()))
+                .orElseGet(() -> Health.down().withDetail("path", properties.getPath().toString()))
+                .build();
+    }
+}
@@ -0,0 +1,244 @@
+package com.swiftcodes.app.snapshot;
+
+import com.swiftcodes.app.model.SwiftCode;
+import com.swiftcodes.app.readmodel.LookupIndex;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.RandomAccess;
+
+/**
+ * {@link LookupIndex} over a memory-mapped {@link SnapshotFormat} file. Nothing is decoded up front: codes are
+ * found by binary search over the sorted records and materialized only when returned, so the heap footprint
+ * does not grow with the directory. Only absolute reads are used, so one instance is safe to share.
+ */
+public final class SnapshotIndex implements LookupIndex {
+
+    private final ByteBuffer buffer;
+    private final int recordCount;
+    private final int countryCount;
+    private final int recordsOffset;
+    private final int countriesOffset;
+    private final int positionsOffset;
+    private final int stringsOffset;
+    private final Instant createdAt;
+
+    private SnapshotIndex(ByteBuffer buffer) throws IOException {
+        if (buffer.capacity() < SnapshotFormat.HEADER_SIZE) {
+            throw new IOException("Snapshot is truncated");
+        }
+        byte[] magic = new byte[SnapshotFormat.MAGIC.length];
+        buffer.get(0, magic);
+        if (!Arrays.equals(magic, SnapshotFormat.MAGIC)) {
+            throw new IOException("Not a SWIFT code snapshot");
+        }
+        int version = buffer.getInt(SnapshotFormat.VERSION_OFFSET);
+        if (version != SnapshotFormat.VERSION) {
+            throw new IOException("Unsupported snapshot version " + version);
+        }
+
+        this.buffer = buffer;
+        this.recordCount = buffer.getInt(SnapshotFormat.RECORD_COUNT_OFFSET);
+        this.countryCount = buffer.getInt(SnapshotFormat.COUNTRY_COUNT_OFFSET);
+        this.recordsOffset = buffer.getInt(SnapshotFormat.RECORDS_OFFSET);
+        this.countriesOffset = buffer.getInt(SnapshotFormat.COUNTRIES_OFFSET);
+        this.positionsOffset = buffer.getInt(SnapshotFormat.POSITIONS_OFFSET);
+        this.stringsOffset = buffer.getInt(SnapshotFormat.STRINGS_OFFSET);
+        this.createdAt = Instant.ofEpochMilli(buffer.getLong(SnapshotFormat.CREATED_AT_OFFSET));
+
+        long expectedSize = (long) stringsOffset + buffer.getInt(SnapshotFormat.STRINGS_LENGTH_OFFSET);
+        if (buffer.capacity() != expectedSize) {
+            throw new IOException("Snapshot size " + buffer.capacity() + " does not match header (" + expectedSize + ")");
+        }
+    }
+
+    public static SnapshotIndex open(Path path) throws IOException {
+        // The mapping stays valid after the channel is closed.
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new SnapshotIndex(mapped);
+        }
+    }
+
+    static SnapshotIndex wrap(ByteBuffer buffer) throws IOException {
+        return new SnapshotIndex(buffer);
+    }
+
+    public int size() {
+        return recordCount;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    @Override
+    public Optional<SwiftCode> find(String swiftCode) {
+        if (swiftCode == null || swiftCode.length() != SnapshotFormat.CODE_LENGTH) {
+            return Optional.empty();
+        }
+        int low = 0;
+        int high = recordCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int comparison = compareCode(mid, swiftCode, SnapshotFormat.CODE_LENGTH);
+            if (comparison < 0) {
+                low = mid + 1;
+            } else if (comparison > 0) {
+                high = mid - 1;
+            } else {
+                return Optional.of(record(mid));
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public List<SwiftCode> branchesOf(String baseSwiftCode) {
+        if (baseSwiftCode == null || baseSwiftCode.length() != SnapshotFormat.BASE_LENGTH) {
+            return List.of();
+        }
+        // Codes sharing a base code are adjacent in code order; find the first and scan the run.
+        int low = 0;
+        int high = recordCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compareCode(mid, baseSwiftCode, SnapshotFormat.BASE_LENGTH) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        List<SwiftCode> branches = new ArrayList<>();
+        for (int i = low; i < recordCount && compareCode(i, baseSwiftCode, SnapshotFormat.BASE_LENGTH) == 0; i++) {
+            if (buffer.get(recordOffset(i) + SnapshotFormat.RECORD_HEADQUARTER) == 0) {
+                branches.add(record(i));
+            }
+        }
+        return branches;
+    }
+
+    @Override
+    public List<SwiftCode> byCountry(String countryIso2Code) {
+        int country = findCountry(countryIso2Code);
+        if (country < 0) {
+            return List.of();
+        }
+        int entry = countriesOffset + country * SnapshotFormat.COUNTRY_SIZE;
+        int first = buffer.getInt(entry + SnapshotFormat.COUNTRY_FIRST_POSITION);
+        int count = buffer.getInt(entry + SnapshotFormat.COUNTRY_POSITION_COUNT);
+        return new CountryView(first, count);
+    }
+
+    @Override
+    public Optional<String> countryName(String countryIso2Code) {
+        int country = findCountry(countryIso2Code);
+        if (country < 0) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(string(countriesOffset + country * SnapshotFormat.COUNTRY_SIZE + SnapshotFormat.COUNTRY_NAME));
+    }
+
+    private int findCountry(String countryIso2Code) {
+        if (countryIso2Code == null || countryIso2Code.length() != SnapshotFormat.ISO2_LENGTH) {
+            return -1;
+        }
+        int low = 0;
+        int high = countryCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int comparison = compareAscii(countriesOffset + mid * SnapshotFormat.COUNTRY_SIZE, countryIso2Code,
+                    SnapshotFormat.ISO2_LENGTH);
+            if (comparison < 0) {
+                low = mid + 1;
+            } else if (comparison > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private int recordOffset(int record) {
+        return recordsOffset + record * SnapshotFormat.RECORD_SIZE;
+    }
+
+    private int compareCode(int record, String code, int length) {
+        return compareAscii(recordOffset(record), code, length);
+    }
+
+    private int compareAscii(int offset, String value, int length) {
+        for (int i = 0; i < length; i++) {
+            int difference = (buffer.get(offset + i) & 0xFF) - value.charAt(i);
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return 0;
+    }
+
+    private SwiftCode record(int record) {
+        int offset = recordOffset(record);
+        String swiftCode = ascii(offset, SnapshotFormat.CODE_LENGTH);
+        return new SwiftCode(
+                swiftCode,
+                string(offset + SnapshotFormat.RECORD_NAME),
+                string(offset + SnapshotFormat.RECORD_ADDRESS),
+                ascii(offset + SnapshotFormat.RECORD_COUNTRY, SnapshotFormat.ISO2_LENGTH),
+                buffer.get(offset + SnapshotFormat.RECORD_HEADQUARTER) != 0,
+                swiftCode.substring(0, SnapshotFormat.BASE_LENGTH));
+    }
+
+    private String ascii(int offset, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(offset, bytes);
+        return new String(bytes, StandardCharsets.US_ASCII);
+    }
+
+    private String string(int referenceOffset) {
+        int length = buffer.getInt(referenceOffset + 4);
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(stringsOffset + buffer.getInt(referenceOffset), bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private final class CountryView extends AbstractList<SwiftCode> implements RandomAccess {
+
+        private final int first;
+        private final int count;
+
+        CountryView(int first, int count) {
+            this.first = first;
+            this.count = count;
+        }
+
+        @Override
+        public SwiftCode get(int index) {
+            if (index < 0 || index >= count) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return record(buffer.getInt(positionsOffset + (first + index) * 4));
+        }
+
+        @Override
+        public int size() {
+            return count;
+        }
+    }
+}
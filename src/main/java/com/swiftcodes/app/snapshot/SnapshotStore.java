@@ -0,0 +1,112 @@
+package com.swiftcodes.app.snapshot;
+
+import com.swiftcodes.app.config.SnapshotProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Holds the currently mapped snapshot and swaps in a new one when the file is replaced. Requests already
+ * reading the previous snapshot finish on it; its mapping is released once it is no longer referenced.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "swiftcodes.lookup.mode", havingValue = "snapshot")
+public class SnapshotStore {
+
+    private final SnapshotProperties properties;
+    private final ScheduledExecutorService poller;
+
+    private volatile SnapshotIndex current;
+    private FileTime loadedModifiedTime;
+    private Object loadedFileKey;
+    private String lastFailure;
+
+    public SnapshotStore(SnapshotProperties properties) {
+        this.properties = properties;
+        this.poller = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("swift-snapshot-poller").daemon().factory());
+    }
+
+    @PostConstruct
+    public void start() {
+        reloadIfChanged();
+        long interval = properties.getPollInterval().toMillis();
+        poller.scheduleWithFixedDelay(this::reloadIfChanged, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        poller.shutdownNow();
+    }
+
+    public Optional<SnapshotIndex> current() {
+        return Optional.ofNullable(current);
+    }
+
+    synchronized void reloadIfChanged() {
+        Path path = properties.getPath();
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            if (current == null && changedFailure("missing")) {
+                log.warn("Snapshot {} does not exist yet, lookups are unavailable until it appears", path);
+            }
+            return;
+        } catch (IOException e) {
+            if (changedFailure(e.toString())) {
+                log.error("Could not read snapshot {}, keeping the previous one", path, e);
+            }
+            return;
+        }
+
+        if (current != null && attributes.lastModifiedTime().equals(loadedModifiedTime)
+                && Objects.equals(attributes.fileKey(), loadedFileKey)) {
+            lastFailure = null;
+            return;
+        }
+        // A file that failed to load is not retried until it is replaced.
+        String version = attributes.lastModifiedTime() + "/" + attributes.fileKey();
+        if (version.equals(lastFailure)) {
+            return;
+        }
+
+        try {
+            long start = System.nanoTime();
+            SnapshotIndex loaded = SnapshotIndex.open(path);
+            current = loaded;
+            loadedModifiedTime = attributes.lastModifiedTime();
+            loadedFileKey = attributes.fileKey();
+            lastFailure = null;
+            log.info("Mapped snapshot {} with {} SWIFT codes created at {} in {} ms",
+                    path, loaded.size(), loaded.getCreatedAt(), (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException | RuntimeException e) {
+            lastFailure = version;
+            log.error("Could not load snapshot {}, keeping the previous one", path, e);
+        }
+    }
+
+    // Polling repeats the same failure every interval; it is logged only when it first appears.
+    private boolean changedFailure(String failure) {
+        if (failure.equals(lastFailure)) {
+            return false;
+        }
+        lastFailure = failure;
+        return true;
+    }
+}
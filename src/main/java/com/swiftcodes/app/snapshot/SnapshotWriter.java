@@ -0,0 +1,143 @@
+package com.swiftcodes.app.snapshot;
+
+import com.swiftcodes.app.model.SwiftCode;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Writes SWIFT codes and country names in the {@link SnapshotFormat}. Codes or ISO2 codes that do not fit
+ * the fixed-width ASCII fields are left out and logged.
+ */
+@Slf4j
+public final class SnapshotWriter {
+
+    private SnapshotWriter() {
+    }
+
+    public static int write(List<SwiftCode> swiftCodes, Map<String, String> countryNames, OutputStream outputStream)
+            throws IOException {
+        List<SwiftCode> codes = new ArrayList<>(swiftCodes.size());
+        for (SwiftCode code : swiftCodes) {
+            if (SnapshotFormat.isAscii(code.getSwiftCode(), SnapshotFormat.CODE_LENGTH)
+                    && SnapshotFormat.isAscii(code.getCountryIso2Code(), SnapshotFormat.ISO2_LENGTH)) {
+                codes.add(code);
+            } else {
+                log.warn("Leaving {} out of snapshot: code or country is not fixed-width ASCII", code.getSwiftCode());
+            }
+        }
+        // String order equals byte order for ASCII, which is what the reader's binary search compares.
+        codes.sort(Comparator.comparing(SwiftCode::getSwiftCode));
+
+        Map<String, List<Integer>> positionsByCountry = new TreeMap<>();
+        countryNames.keySet().stream()
+                .filter(iso -> SnapshotFormat.isAscii(iso, SnapshotFormat.ISO2_LENGTH))
+                .forEach(iso -> positionsByCountry.put(iso, new ArrayList<>()));
+        for (int i = 0; i < codes.size(); i++) {
+            positionsByCountry.computeIfAbsent(codes.get(i).getCountryIso2Code(), iso -> new ArrayList<>()).add(i);
+        }
+
+        StringHeap strings = new StringHeap();
+        ByteArrayOutputStream records = new ByteArrayOutputStream(codes.size() * SnapshotFormat.RECORD_SIZE);
+        DataOutputStream recordOut = new DataOutputStream(records);
+        for (SwiftCode code : codes) {
+            recordOut.write(code.getSwiftCode().getBytes(StandardCharsets.US_ASCII));
+            recordOut.writeByte(Boolean.TRUE.equals(code.getIsHeadquarter()) ? 1 : 0);
+            recordOut.write(code.getCountryIso2Code().getBytes(StandardCharsets.US_ASCII));
+            recordOut.writeShort(0);
+            strings.writeReference(recordOut, code.getBankName());
+            strings.writeReference(recordOut, code.getAddress());
+        }
+
+        ByteArrayOutputStream countries = new ByteArrayOutputStream(positionsByCountry.size() * SnapshotFormat.COUNTRY_SIZE);
+        ByteArrayOutputStream positions = new ByteArrayOutputStream(codes.size() * 4);
+        DataOutputStream countryOut = new DataOutputStream(countries);
+        DataOutputStream positionOut = new DataOutputStream(positions);
+        int nextPosition = 0;
+        for (Map.Entry<String, List<Integer>> country : positionsByCountry.entrySet()) {
+            countryOut.write(country.getKey().getBytes(StandardCharsets.US_ASCII));
+            countryOut.writeShort(0);
+            strings.writeReference(countryOut, countryNames.get(country.getKey()));
+            countryOut.writeInt(nextPosition);
+            countryOut.writeInt(country.getValue().size());
+            for (int position : country.getValue()) {
+                positionOut.writeInt(position);
+            }
+            nextPosition += country.getValue().size();
+        }
+
+        int recordsOffset = SnapshotFormat.HEADER_SIZE;
+        int countriesOffset = recordsOffset + records.size();
+        int positionsOffset = countriesOffset + countries.size();
+        int stringsOffset = positionsOffset + positions.size();
+        long fileSize = (long) stringsOffset + strings.size();
+        if (fileSize > Integer.MAX_VALUE) {
+            throw new IOException("Snapshot of " + codes.size() + " codes exceeds the 2 GB format limit");
+        }
+
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(outputStream));
+        out.write(SnapshotFormat.MAGIC);
+        out.writeInt(SnapshotFormat.VERSION);
+        out.writeInt(codes.size());
+        out.writeInt(positionsByCountry.size());
+        out.writeInt(recordsOffset);
+        out.writeInt(countriesOffset);
+        out.writeInt(positionsOffset);
+        out.writeInt(stringsOffset);
+        out.writeInt(strings.size());
+        out.writeLong(System.currentTimeMillis());
+        out.write(new byte[SnapshotFormat.HEADER_SIZE - out.size()]);
+        records.writeTo(out);
+        countries.writeTo(out);
+        positions.writeTo(out);
+        strings.writeTo(out);
+        out.flush();
+
+        log.info("Wrote snapshot of {} SWIFT codes and {} countries ({} bytes)",
+                codes.size(), positionsByCountry.size(), fileSize);
+        return codes.size();
+    }
+
+    // Branches repeat their headquarters' bank name, so equal strings are stored once.
+    private static final class StringHeap {
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final Map<String, Integer> offsets = new HashMap<>();
+
+        void writeReference(DataOutputStream out, String value) throws IOException {
+            if (value == null) {
+                out.writeInt(0);
+                out.writeInt(-1);
+                return;
+            }
+            byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+            Integer offset = offsets.get(value);
+            if (offset == null) {
+                offset = bytes.size();
+                offsets.put(value, offset);
+                bytes.write(encoded);
+            }
+            out.writeInt(offset);
+            out.writeInt(encoded.length);
+        }
+
+        int size() {
+            return bytes.size();
+        }
+
+        void writeTo(OutputStream out) throws IOException {
+            bytes.writeTo(out);
+        }
+    }
+}
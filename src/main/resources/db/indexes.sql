@@ -0,0 +1,4 @@
+-- Applied by SchemaIndexInitializer on every startup; the schema itself comes from backup.dump.
+-- Add every index created here to SchemaIndexInitializer.INDEXES so an invalid leftover is rebuilt.
+-- Keyset paging of country listings seeks on (country_iso2_code, swift_code).
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_country_iso2_swift_code ON swift_codes (country_iso2_code, swift_code);
@@ -0,0 +1,44 @@
+package com.swiftcodes.app.bic;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class BicCodecTest {
+
+    @Test
+    public void encode_validCodes_roundTrip() {
+        for (String code : new String[]{"ABCDEFGHXXX", "ZZZZZZZZ999", "00000000000", "DEUTDEFF500", "ABCDEFGH", "A"}) {
+            long packed = BicCodec.encode(code);
+
+            assertThat(packed).isPositive();
+            assertThat(BicCodec.decode(packed)).isEqualTo(code);
+        }
+    }
+
+    @Test
+    public void baseOf_matchesEncodedBaseCode() {
+        long packed = BicCodec.encode("ABCDEFGH123");
+
+        assertThat(BicCodec.baseOf(packed)).isEqualTo(BicCodec.encode("ABCDEFGH"));
+        assertThat(BicCodec.encodeBase("ABCDEFGH123")).isEqualTo(BicCodec.encode("ABCDEFGH"));
+        assertThat(BicCodec.baseOf(packed)).isNotEqualTo(packed);
+    }
+
+    @Test
+    public void encode_differentLengths_doNotCollide() {
+        assertThat(BicCodec.encode("ABCDEFGH")).isNotEqualTo(BicCodec.encode("ABCDEFGH000"));
+        assertThat(BicCodec.encode("ABCDEFG")).isNotEqualTo(BicCodec.encode("ABCDEFG0"));
+    }
+
+    @Test
+    public void encode_unsupportedInput_isInvalid() {
+        assertThat(BicCodec.encode("abcdefghxxx")).isEqualTo(BicCodec.INVALID);
+        assertThat(BicCodec.encode("ABCD-FGHXXX")).isEqualTo(BicCodec.INVALID);
+        assertThat(BicCodec.encode("ABCDEFGHXXXX")).isEqualTo(BicCodec.INVALID);
+        assertThat(BicCodec.encode("")).isEqualTo(BicCodec.INVALID);
+        assertThat(BicCodec.encode(null)).isEqualTo(BicCodec.INVALID);
+        assertThat(BicCodec.encodeBase("ABCDEFG")).isEqualTo(BicCodec.INVALID);
+        assertThat(BicCodec.encodeBase("ABCDEFGHx!x")).isEqualTo(BicCodec.encode("ABCDEFGH"));
+    }
+}
@@ -0,0 +1,57 @@
+package com.swiftcodes.app.bic;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class LongObjectMapTest {
+
+    @Test
+    public void randomOperations_matchHashMap() {
+        LongObjectMap<Long> map = new LongObjectMap<>();
+        LongHashSet set = new LongHashSet();
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        // A small key range forces long probe runs, growth and removals inside them.
+        for (int i = 0; i < 50_000; i++) {
+            long key = 1 + random.nextInt(2_000);
+            if (random.nextInt(3) == 0) {
+                assertThat(map.remove(key)).isEqualTo(expected.remove(key));
+            } else {
+                assertThat(map.put(key, (long) i)).isEqualTo(expected.put(key, (long) i));
+                set.add(key);
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        for (long key = 1; key <= 2_000; key++) {
+            assertThat(map.get(key)).isEqualTo(expected.get(key));
+            assertThat(set.contains(key)).isTrue();
+        }
+    }
+
+    @Test
+    public void copy_isIndependentOfOriginal() {
+        LongObjectMap<String> original = new LongObjectMap<>();
+        original.put(1L, "A");
+        LongObjectMap<String> copy = new LongObjectMap<>(original);
+
+        copy.put(2L, "B");
+        copy.remove(1L);
+
+        assertThat(original.get(1L)).isEqualTo("A");
+        assertThat(original.get(2L)).isNull();
+        assertThat(copy.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void nonPositiveKeys_areRejected() {
+        assertThatThrownBy(() -> new LongObjectMap<String>().put(0L, "A")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new LongHashSet().add(BicCodec.INVALID)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,113 @@
+package com.swiftcodes.app.cluster;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swiftcodes.app.config.ChangeNotificationProperties;
+import com.swiftcodes.app.event.SwiftCodesChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ChangeNotificationBridgeTest {
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ChangeNotificationBridge sender;
+    private ChangeNotificationBridge receiver;
+
+    @BeforeEach
+    public void setup() {
+        sender = bridge(mock(ApplicationEventPublisher.class));
+        receiver = bridge(eventPublisher);
+    }
+
+    @Test
+    public void sentChange_isAppliedAsRemoteEventByOtherInstances() throws InterruptedException {
+        List<String> payloads = send(SwiftCodesChangedEvent.upserted("ABCDEFGHXXX", "PL"));
+
+        receiver.receive(payloads.get(0));
+
+        verify(eventPublisher).publishEvent(SwiftCodesChangedEvent.remote(
+                SwiftCodesChangedEvent.ChangeType.UPSERTED, Set.of("ABCDEFGHXXX"), Set.of("PL")));
+    }
+
+    @Test
+    public void ownAndRemoteChanges_areNotForwarded() throws InterruptedException {
+        List<String> payloads = send(SwiftCodesChangedEvent.deleted("ABCDEFGHXXX", "PL"));
+
+        sender.receive(payloads.get(0));
+        receiver.onSwiftCodesChanged(SwiftCodesChangedEvent.remote(
+                SwiftCodesChangedEvent.ChangeType.DELETED, Set.of("ABCDEFGHXXX"), Set.of("PL")));
+
+        verifyNoInteractions(eventPublisher);
+        assertThat(receiver.nextPayload(Duration.ZERO)).contains("\"heartbeat\":true");
+    }
+
+    @Test
+    public void sequenceGap_reloadsEverything() throws InterruptedException {
+        List<String> payloads = send(SwiftCodesChangedEvent.upserted("ABCDEFGHXXX", "PL"),
+                SwiftCodesChangedEvent.upserted("IJKLMNOPXXX", "DE"),
+                SwiftCodesChangedEvent.deleted("ABCDEFGHXXX", "PL"));
+
+        receiver.receive(payloads.get(0));
+        receiver.receive(payloads.get(2));
+
+        verify(eventPublisher).publishEvent(SwiftCodesChangedEvent.remote(
+                SwiftCodesChangedEvent.ChangeType.IMPORTED, Set.of(), Set.of()));
+        verify(eventPublisher, never()).publishEvent(SwiftCodesChangedEvent.remote(
+                SwiftCodesChangedEvent.ChangeType.DELETED, Set.of("ABCDEFGHXXX"), Set.of("PL")));
+    }
+
+    @Test
+    public void heartbeatAfterFailedSend_reloadsEverything() throws InterruptedException {
+        List<String> payloads = send(SwiftCodesChangedEvent.upserted("ABCDEFGHXXX", "PL"),
+                SwiftCodesChangedEvent.upserted("IJKLMNOPXXX", "DE"));
+
+        // The second change never reached the channel; the next heartbeat carries its sequence number.
+        receiver.receive(payloads.get(0));
+        receiver.receive(sender.nextPayload(Duration.ZERO));
+
+        verify(eventPublisher).publishEvent(SwiftCodesChangedEvent.remote(
+                SwiftCodesChangedEvent.ChangeType.IMPORTED, Set.of(), Set.of()));
+    }
+
+    @Test
+    public void heartbeatWithoutGap_changesNothing() throws InterruptedException {
+        List<String> payloads = send(SwiftCodesChangedEvent.upserted("ABCDEFGHXXX", "PL"));
+
+        receiver.receive(payloads.get(0));
+        reset(eventPublisher);
+        receiver.receive(sender.nextPayload(Duration.ZERO));
+
+        verifyNoInteractions(eventPublisher);
+    }
+
+    private List<String> send(SwiftCodesChangedEvent... events) throws InterruptedException {
+        for (SwiftCodesChangedEvent event : events) {
+            sender.onSwiftCodesChanged(event);
+        }
+        List<String> payloads = new ArrayList<>();
+        for (int i = 0; i < events.length; i++) {
+            payloads.add(sender.nextPayload(Duration.ZERO));
+        }
+        return payloads;
+    }
+
+    private ChangeNotificationBridge bridge(ApplicationEventPublisher publisher) {
+        return new ChangeNotificationBridge(mock(DataSource.class), publisher, new ObjectMapper(),
+                new ChangeNotificationProperties());
+    }
+}
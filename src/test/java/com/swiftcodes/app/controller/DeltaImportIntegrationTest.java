@@ -0,0 +1,141 @@
+package com.swiftcodes.app.controller;
+
+import com.swiftcodes.app.event.SwiftCodesChangedEvent;
+import com.swiftcodes.app.model.Country;
+import com.swiftcodes.app.model.SwiftCode;
+import com.swiftcodes.app.repository.CountryRepository;
+import com.swiftcodes.app.repository.SwiftCodeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "swiftcodes.import.engine=delta")
+@AutoConfigureMockMvc
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class DeltaImportIntegrationTest {
+
+    @Container
+    public static PostgreSQLContainer<?> postgresContainer = new PostgreSQLContainer<>("postgres:15")
+            .withDatabaseName("testdb")
+            .withUsername("postgres")
+            .withPassword("postgres");
+
+    @DynamicPropertySource
+    static void overrideProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgresContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgresContainer::getUsername);
+        registry.add("spring.datasource.password", postgresContainer::getPassword);
+        registry.add("spring.datasource.driver-class-name", postgresContainer::getDriverClassName);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SwiftCodeRepository swiftCodeRepository;
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @BeforeEach
+    public void setup() {
+        swiftCodeRepository.deleteAll();
+        countryRepository.deleteAll();
+        countryRepository.save(new Country("PL", "POLSKA"));
+        swiftCodeRepository.saveAll(List.of(
+                new SwiftCode("AAAAPLPWXXX", "BANK A", "ADDRESS A", "PL", true, null),
+                new SwiftCode("AAAAPLPW001", "BANK A BRANCH", "BRANCH ADDRESS", "PL", false, null),
+                new SwiftCode("BBBBPLPWXXX", "BANK B", "ADDRESS B", "PL", true, null),
+                new SwiftCode("CCCCPLPWXXX", "BANK C", "ADDRESS C", "PL", true, null)));
+        eventPublisher.publishEvent(SwiftCodesChangedEvent.imported());
+    }
+
+    @Test
+    public void uploadCsvFile_deltaEngine_writesOnlyChangedRows() throws Exception {
+        String csvContent = "COUNTRY ISO2 CODE,SWIFT CODE,NAME,ADDRESS,COUNTRY NAME\n" +
+                "PL,AAAAPLPWXXX,Bank A,Address A,Polska\n" +
+                "PL,AAAAPLPW001,Bank A Branch,Branch Address,Polska\n" +
+                "PL,BBBBPLPWXXX,Bank B Renamed,Address B,Polska\n" +
+                "DE,DDDDDEFFXXX,Bank D,Address D,Germany\n" +
+                "DE,DDDDDEFF001,Bank D Branch,Address D1,Germany\n" +
+                "DE,EEEEDEFF001,Orphan Branch,Address E1,Germany\n";
+        MockMultipartFile file = new MockMultipartFile("file", "directory.csv", "text/csv",
+                csvContent.getBytes(StandardCharsets.UTF_8));
+
+        mockMvc.perform(multipart("/v1/swift-codes/upload-csv").file(file))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.processedRecords", is(6)))
+                .andExpect(jsonPath("$.skippedRecords", is(1)))
+                .andExpect(jsonPath("$.newCountries", is(1)))
+                .andExpect(jsonPath("$.changes.inserted", is(2)))
+                .andExpect(jsonPath("$.changes.updated", is(1)))
+                .andExpect(jsonPath("$.changes.deleted", is(1)))
+                .andExpect(jsonPath("$.changes.unchanged", is(2)));
+
+        assertThat(swiftCodeRepository.findAllSwiftCodes()).containsExactlyInAnyOrder(
+                "AAAAPLPWXXX", "AAAAPLPW001", "BBBBPLPWXXX", "DDDDDEFFXXX", "DDDDDEFF001");
+        assertThat(swiftCodeRepository.findById("BBBBPLPWXXX")).get()
+                .extracting(SwiftCode::getBankName).isEqualTo("BANK B RENAMED");
+        assertThat(countryRepository.findById("DE")).get()
+                .extracting(Country::getName).isEqualTo("GERMANY");
+    }
+
+    @Test
+    public void uploadCsvFile_deltaEngine_sameFileTwice_changesNothing() throws Exception {
+        String csvContent = "COUNTRY ISO2 CODE,SWIFT CODE,NAME,ADDRESS,COUNTRY NAME\n" +
+                "PL,AAAAPLPWXXX,Bank A,Address A,Polska\n" +
+                "PL,AAAAPLPW001,Bank A Branch,Branch Address,Polska\n" +
+                "PL,BBBBPLPWXXX,Bank B,Address B,Polska\n" +
+                "PL,CCCCPLPWXXX,Bank C,Address C,Polska\n";
+        MockMultipartFile file = new MockMultipartFile("file", "directory.csv", "text/csv",
+                csvContent.getBytes(StandardCharsets.UTF_8));
+
+        mockMvc.perform(multipart("/v1/swift-codes/upload-csv").file(file))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes.inserted", is(0)))
+                .andExpect(jsonPath("$.changes.updated", is(0)))
+                .andExpect(jsonPath("$.changes.deleted", is(0)))
+                .andExpect(jsonPath("$.changes.unchanged", is(4)));
+    }
+
+    @Test
+    public void uploadCsvFile_deltaEngine_noValidCodes_keepsDirectory() throws Exception {
+        String csvContent = "COUNTRY ISO2 CODE,SWIFT CODE,NAME,ADDRESS,COUNTRY NAME\n" +
+                "PL,INVALID,Bank X,Address X,Polska\n" +
+                "DE,EEEEDEFF001,Orphan Branch,Address E1,Germany\n";
+        MockMultipartFile file = new MockMultipartFile("file", "directory.csv", "text/csv",
+                csvContent.getBytes(StandardCharsets.UTF_8));
+
+        mockMvc.perform(multipart("/v1/swift-codes/upload-csv").file(file))
+                .andExpect(status().isBadRequest());
+
+        assertThat(swiftCodeRepository.findAllSwiftCodes()).containsExactlyInAnyOrder(
+                "AAAAPLPWXXX", "AAAAPLPW001", "BBBBPLPWXXX", "CCCCPLPWXXX");
+        assertThat(countryRepository.findById("DE")).isEmpty();
+    }
+}
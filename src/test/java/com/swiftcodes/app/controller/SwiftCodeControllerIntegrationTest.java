@@ -2,6 +2,7 @@ package com.swiftcodes.app.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.swiftcodes.app.dto.SwiftCodeRequestDTO;
+import com.swiftcodes.app.event.SwiftCodesChangedEvent;
 import com.swiftcodes.app.repository.CountryRepository;
 import com.swiftcodes.app.repository.SwiftCodeRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,6 +12,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
@@ -61,10 +63,15 @@ public class SwiftCodeControllerIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @BeforeEach
     public void setup() {
         swiftCodeRepository.deleteAll();
         countryRepository.deleteAll();
+        // Rows were removed behind the services' back, so resident registries and caches are refreshed.
+        eventPublisher.publishEvent(SwiftCodesChangedEvent.imported());
     }
 
     @Test
@@ -120,6 +127,25 @@ public class SwiftCodeControllerIntegrationTest {
                 .andExpect(jsonPath("$.message", containsString("SWIFT code not found")));
     }
 
+    @Test
+    public void getSwiftCode_branchLimitTooLarge_returnsBadRequest() throws Exception {
+        mockMvc.perform(get("/v1/swift-codes/ABCDEFGHXXX")
+                        .param("branchLimit", String.valueOf(Integer.MAX_VALUE))
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", containsString("must not exceed")));
+    }
+
+    @Test
+    public void getSwiftCodesByCountry_sizeTooLarge_returnsBadRequest() throws Exception {
+        mockMvc.perform(get("/v1/swift-codes/country/PL")
+                        .param("cursor", "")
+                        .param("size", String.valueOf(Integer.MAX_VALUE))
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", containsString("must not exceed")));
+    }
+
     @Test
     public void deleteSwiftCode_returnsSuccessMessage() throws Exception {
         SwiftCodeRequestDTO dto = SwiftCodeRequestDTO.builder()
@@ -0,0 +1,81 @@
+package com.swiftcodes.app.export;
+
+import com.swiftcodes.app.config.ExportProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SwiftCodeExporterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ResultSet resultSet;
+
+    private SwiftCodeExporter exporter;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        exporter = new SwiftCodeExporter(jdbcTemplate, transactionManager, new ExportProperties());
+
+        when(resultSet.getString("swift_code")).thenReturn("ABCDEFGHXXX", "ABCDEFGH111");
+        when(resultSet.getString("name")).thenReturn("BANK TEST");
+        when(resultSet.getString("address")).thenReturn("ADRES, 1");
+        when(resultSet.getString("country_iso2_code")).thenReturn("PL");
+        when(resultSet.getString("country_name")).thenReturn("POLAND");
+        lenient().when(resultSet.getBoolean("is_headquarter")).thenReturn(true, false);
+
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(resultSet);
+            handler.processRow(resultSet);
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+    }
+
+    @Test
+    public void export_csv_writesImportCompatibleHeaderAndRows() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = exporter.export(ExportFormat.CSV, null, out);
+
+        assertThat(rows).isEqualTo(2);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "COUNTRY ISO2 CODE,SWIFT CODE,NAME,ADDRESS,COUNTRY NAME\n" +
+                "PL,ABCDEFGHXXX,BANK TEST,\"ADRES, 1\",POLAND\n" +
+                "PL,ABCDEFGH111,BANK TEST,\"ADRES, 1\",POLAND\n");
+    }
+
+    @Test
+    public void export_ndjson_writesOneObjectPerLine() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exporter.export(ExportFormat.NDJSON, "PL", out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8).split("\n")).containsExactly(
+                "{\"swiftCode\":\"ABCDEFGHXXX\",\"bankName\":\"BANK TEST\",\"address\":\"ADRES, 1\"," +
+                        "\"countryISO2\":\"PL\",\"countryName\":\"POLAND\",\"isHeadquarter\":true}",
+                "{\"swiftCode\":\"ABCDEFGH111\",\"bankName\":\"BANK TEST\",\"address\":\"ADRES, 1\"," +
+                        "\"countryISO2\":\"PL\",\"countryName\":\"POLAND\",\"isHeadquarter\":false}");
+        assertThat(out.toString(StandardCharsets.UTF_8)).endsWith("}\n");
+    }
+}
@@ -0,0 +1,95 @@
+package com.swiftcodes.app.importer;
+
+import com.swiftcodes.app.config.ImportProperties;
+import com.swiftcodes.app.exception.InvalidDataException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class ParallelSwiftCodeCsvReaderTest {
+
+    private static final String HEADER = "Country ISO2 Code,SWIFT CODE,CODE TYPE,NAME,ADDRESS,TOWN NAME,COUNTRY NAME\r\n";
+
+    private ParallelSwiftCodeCsvReader parallelReader;
+
+    @BeforeEach
+    public void setup() {
+        ImportProperties importProperties = new ImportProperties();
+        importProperties.getParsing().setParallelism(4);
+        // Tiny slices put record boundaries, quoted line breaks and CRLF pairs at every possible split point.
+        importProperties.getParsing().setChunkSize(DataSize.ofBytes(37));
+        parallelReader = new ParallelSwiftCodeCsvReader(importProperties);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        parallelReader.shutdown();
+    }
+
+    @Test
+    public void read_matchesSequentialReader(@TempDir Path directory) throws IOException {
+        StringBuilder csv = new StringBuilder(HEADER);
+        Random random = new Random(7);
+        for (int i = 0; i < 2_000; i++) {
+            String code = switch (random.nextInt(20)) {
+                case 0 -> "SHORT" + i;
+                case 1 -> "  bank%04dxxx ".formatted(i);
+                default -> "BANK%04d%s".formatted(i / 5, i % 5 == 0 ? "XXX" : "%03d".formatted(i % 1000));
+            };
+            String address = switch (random.nextInt(4)) {
+                case 0 -> "\"ul. Testowa %d,\r\nWarszawa\"".formatted(i);
+                case 1 -> "\"say \"\"hi\"\" %d\"".formatted(i);
+                case 2 -> "  żółta %d ".formatted(i);
+                default -> "plain street %d".formatted(i);
+            };
+            csv.append("pl,").append(code).append(",BIC11,Bank ").append(i).append(',')
+                    .append(address).append(",WARSZAWA,poland")
+                    .append(random.nextInt(10) == 0 ? "\n\n" : "\r\n");
+        }
+        byte[] bytes = csv.toString().getBytes(StandardCharsets.UTF_8);
+        Path file = directory.resolve("upload.csv");
+        Files.write(file, bytes);
+
+        List<SwiftCodeRow> expectedRows = new ArrayList<>();
+        SwiftCodeCsvReader.Summary expected = new SwiftCodeCsvReader().read(new ByteArrayInputStream(bytes), expectedRows::add);
+
+        List<SwiftCodeRow> rows = new ArrayList<>();
+        ImportProgress progress = new ImportProgress();
+        SwiftCodeCsvReader.Summary summary;
+        try (InputStream inputStream = new FileInputStream(file.toFile())) {
+            summary = parallelReader.read(inputStream, progress, rows::add);
+        }
+        List<SwiftCodeRow> spooledRows = new ArrayList<>();
+        parallelReader.read(new ByteArrayInputStream(bytes), spooledRows::add);
+
+        assertThat(summary).isEqualTo(expected);
+        assertThat(rows).containsExactlyElementsOf(expectedRows);
+        assertThat(spooledRows).containsExactlyElementsOf(expectedRows);
+        assertThat(progress.getRowsParsed()).isEqualTo(expected.getTotalRecords());
+        assertThat(progress.getSkippedRecords()).isEqualTo(expected.getSkippedRecords());
+    }
+
+    @Test
+    public void read_missingColumn_rejectsFile() {
+        byte[] csv = "COUNTRY ISO2 CODE,SWIFT CODE,NAME\nPL,ABCDEFGHXXX,BANK\n".getBytes(StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> parallelReader.read(new ByteArrayInputStream(csv), row -> { }))
+                .isInstanceOf(InvalidDataException.class)
+                .hasMessageContaining("ADDRESS");
+    }
+}
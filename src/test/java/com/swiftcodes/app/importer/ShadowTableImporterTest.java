@@ -0,0 +1,58 @@
+package com.swiftcodes.app.importer;
+
+import com.swiftcodes.app.config.ImportProperties;
+import com.swiftcodes.app.exception.InvalidDataException;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class ShadowTableImporterTest {
+
+    @Test
+    public void importCsv_noValidCodes_keepsLiveTable() {
+        StagingTableLoader stagingTableLoader = mock(StagingTableLoader.class);
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(stagingTableLoader.load(any(), any(), any())).thenReturn(new SwiftCodeCsvReader.Summary(2, 2));
+        when(jdbcTemplate.queryForMap(anyString())).thenReturn(Map.of("headquarters", 0L, "branches", 0L));
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class))).thenReturn(0);
+        ShadowTableImporter importer = new ShadowTableImporter(stagingTableLoader, jdbcTemplate, transactionTemplate,
+                new ImportProperties());
+
+        assertThatThrownBy(() -> importer.importCsv(new ByteArrayInputStream(new byte[0]), new SwiftCodeCsvReader(),
+                new ImportProgress()))
+                .isInstanceOf(InvalidDataException.class);
+
+        verify(jdbcTemplate, never()).execute(startsWith("ALTER TABLE swift_codes RENAME"));
+        verify(jdbcTemplate, never()).queryForList(anyString(), any(Object[].class));
+    }
+
+    @Test
+    public void shadowIndexDefinition_targetsShadowTable() {
+        assertThat(ShadowTableImporter.shadowIndexDefinition(
+                "CREATE UNIQUE INDEX swift_codes_pkey ON public.swift_codes USING btree (swift_code)",
+                "swift_codes_pkey_next"))
+                .isEqualTo("CREATE UNIQUE INDEX swift_codes_pkey_next ON swift_codes_next USING btree (swift_code)");
+        assertThat(ShadowTableImporter.shadowIndexDefinition(
+                "CREATE INDEX idx_country_iso2_swift_code ON ONLY public.swift_codes USING btree (country_iso2_code, swift_code)",
+                "idx_country_iso2_swift_code_next"))
+                .isEqualTo("CREATE INDEX idx_country_iso2_swift_code_next ON ONLY swift_codes_next "
+                        + "USING btree (country_iso2_code, swift_code)");
+    }
+
+    @Test
+    public void shadowIndexDefinition_rejectsUnknownSyntax() {
+        assertThatThrownBy(() -> ShadowTableImporter.shadowIndexDefinition("CREATE TABLE x (id int)", "x_next"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
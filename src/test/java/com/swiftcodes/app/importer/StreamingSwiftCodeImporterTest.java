@@ -0,0 +1,93 @@
+package com.swiftcodes.app.importer;
+
+import com.swiftcodes.app.config.ImportProperties;
+import com.swiftcodes.app.dto.SwiftCodeFileResponseDTO;
+import com.swiftcodes.app.mapper.SwiftCodeMapper;
+import com.swiftcodes.app.model.Country;
+import com.swiftcodes.app.model.SwiftCode;
+import com.swiftcodes.app.readmodel.CountryRegistry;
+import com.swiftcodes.app.readmodel.HeadquartersRegistry;
+import com.swiftcodes.app.repository.CountryRepository;
+import com.swiftcodes.app.repository.SwiftCodeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mapstruct.factory.Mappers;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class StreamingSwiftCodeImporterTest {
+
+    @Mock
+    private SwiftCodeRepository swiftCodeRepository;
+
+    @Mock
+    private CountryRepository countryRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private StreamingSwiftCodeImporter importer;
+
+    @BeforeEach
+    public void setup() {
+        ImportProperties importProperties = new ImportProperties();
+        importProperties.setChunkSize(2);
+        importer = new StreamingSwiftCodeImporter(
+                swiftCodeRepository,
+                new CountryRegistry(countryRepository),
+                new HeadquartersRegistry(swiftCodeRepository),
+                Mappers.getMapper(SwiftCodeMapper.class),
+                new TransactionTemplate(transactionManager),
+                importProperties
+        );
+    }
+
+    @Test
+    public void importCsv_flushesInChunksAndSkipsOrphanBranches() {
+        String csvContent = "COUNTRY ISO2 CODE,SWIFT CODE,NAME,ADDRESS,COUNTRY NAME\n" +
+                "PL,ABCDEFGH111,Branch Before Hq,Adres,Polska\n" +
+                "PL,ABCDEFGHXXX,Bank Test,Adres Testowy,Polska\n" +
+                "PL,IJKLMNOP111,Orphan Branch,Adres,Polska\n" +
+                "DE,QRSTUVWX222,Existing Hq Branch,Adres,Germany\n" +
+                "PL,SHORT,Bank Invalid,Adres,Polska\n";
+
+        when(swiftCodeRepository.findHeadquarterBaseSwiftCodes()).thenReturn(List.of("QRSTUVWX"));
+        when(countryRepository.findAll()).thenReturn(List.of(new Country("PL", "Polska")));
+        when(countryRepository.insertIfAbsent("DE", "GERMANY")).thenReturn(1);
+
+        List<Integer> chunkSizes = new ArrayList<>();
+        when(swiftCodeRepository.upsertAll(anyCollection())).thenAnswer(invocation -> {
+            List<SwiftCode> chunk = invocation.getArgument(0);
+            chunkSizes.add(chunk.size());
+            return chunk;
+        });
+
+        ImportProgress progress = new ImportProgress();
+        SwiftCodeFileResponseDTO response = importer.importCsv(
+                new ByteArrayInputStream(csvContent.getBytes(StandardCharsets.UTF_8)), new SwiftCodeCsvReader(), progress);
+
+        assertThat(chunkSizes).containsExactly(2, 1);
+        assertThat(response.getProcessedRecords()).isEqualTo(5);
+        assertThat(response.getSkippedRecords()).isEqualTo(2);
+        assertThat(response.getNewCountries()).isEqualTo(1);
+        assertThat(response.getHeadquartersSaved()).isEqualTo(1);
+        assertThat(response.getBranchesSaved()).isEqualTo(2);
+        assertThat(progress.getRowsParsed()).isEqualTo(5);
+        assertThat(progress.getSkippedRecords()).isEqualTo(2);
+        assertThat(progress.getHeadquartersSaved()).isEqualTo(1);
+        assertThat(progress.getBranchesSaved()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,93 @@
+package com.swiftcodes.app.importer;
+
+import com.swiftcodes.app.exception.InvalidDataException;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class SwiftCodeXlsxReaderTest {
+
+    private final SwiftCodeXlsxReader reader = new SwiftCodeXlsxReader();
+
+    @Test
+    public void read_matchesCsvReader() throws IOException {
+        String[][] rows = {
+                {"Country ISO2 Code", "SWIFT CODE", "CODE TYPE", "NAME", "ADDRESS", "COUNTRY NAME"},
+                {"pl", "ABCDEFGHXXX", "BIC11", "Bank Test", " ul. Testowa 1 ", "poland"},
+                {"PL", "ABCDEFGH123", "BIC11", "Bank Test", null, "POLAND"},
+                {},
+                {"PL", "SHORT", "BIC11", "Invalid", "Nowhere", "POLAND"},
+                {"de", " IJKLMNOPXXX ", "BIC11", "Bank Zwei", "Straße 5", "germany"}
+        };
+
+        List<SwiftCodeRow> expectedRows = new ArrayList<>();
+        SwiftCodeCsvReader.Summary expected = new SwiftCodeCsvReader().read(
+                new ByteArrayInputStream(toCsv(rows)), expectedRows::add);
+
+        List<SwiftCodeRow> actualRows = new ArrayList<>();
+        ImportProgress progress = new ImportProgress();
+        SwiftCodeCsvReader.Summary summary = reader.read(new ByteArrayInputStream(toXlsx(rows)), progress, actualRows::add);
+
+        assertThat(summary).isEqualTo(expected);
+        assertThat(summary.getTotalRecords()).isEqualTo(4);
+        assertThat(summary.getSkippedRecords()).isEqualTo(1);
+        assertThat(actualRows).containsExactlyElementsOf(expectedRows);
+        assertThat(progress.getRowsParsed()).isEqualTo(4);
+    }
+
+    @Test
+    public void read_missingColumn_throwsInvalidDataException() throws IOException {
+        byte[] workbook = toXlsx(new String[][]{{"COUNTRY ISO2 CODE", "SWIFT CODE", "NAME"}, {"PL", "ABCDEFGHXXX", "BANK"}});
+
+        assertThatThrownBy(() -> reader.read(new ByteArrayInputStream(workbook), row -> { }))
+                .isInstanceOf(InvalidDataException.class)
+                .hasMessageContaining("ADDRESS");
+    }
+
+    @Test
+    public void read_notAWorkbook_throwsInvalidDataException() {
+        byte[] csv = "COUNTRY ISO2 CODE,SWIFT CODE\n".getBytes(StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> reader.read(new ByteArrayInputStream(csv), row -> { }))
+                .isInstanceOf(InvalidDataException.class)
+                .hasMessageContaining("Invalid XLSX file");
+    }
+
+    private static byte[] toXlsx(String[][] rows) throws IOException {
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            Sheet sheet = workbook.createSheet("SWIFT CODES");
+            for (int i = 0; i < rows.length; i++) {
+                Row row = sheet.createRow(i);
+                for (int j = 0; j < rows[i].length; j++) {
+                    if (rows[i][j] != null) {
+                        row.createCell(j).setCellValue(rows[i][j]);
+                    }
+                }
+            }
+            workbook.write(out);
+            return out.toByteArray();
+        }
+    }
+
+    private static byte[] toCsv(String[][] rows) {
+        StringBuilder csv = new StringBuilder();
+        for (String[] row : rows) {
+            List<String> values = new ArrayList<>();
+            for (String value : row) {
+                values.add(value == null ? "" : value);
+            }
+            csv.append(String.join(",", values)).append('\n');
+        }
+        return csv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,59 @@
+package com.swiftcodes.app.metrics;
+
+import com.swiftcodes.app.dto.SwiftCodeResponseDTO;
+import com.swiftcodes.app.exception.DuplicateEntryException;
+import com.swiftcodes.app.exception.ResourceNotFoundException;
+import com.swiftcodes.app.service.SwiftCodeService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ServiceMetricsAspectTest {
+
+    @Mock
+    private SwiftCodeService swiftCodeService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SwiftCodeService timedService;
+
+    @BeforeEach
+    public void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        AspectJProxyFactory factory = new AspectJProxyFactory(swiftCodeService);
+        factory.addAspect(new ServiceMetricsAspect(meterRegistry));
+        timedService = factory.getProxy();
+    }
+
+    @Test
+    public void successfulCall_recordedAsSuccess() {
+        when(swiftCodeService.getSwiftCode("ABCDEFGHXXX")).thenReturn(new SwiftCodeResponseDTO());
+
+        timedService.getSwiftCode("ABCDEFGHXXX");
+
+        assertThat(meterRegistry.get(ServiceMetricsAspect.TIMER_NAME)
+                .tag("method", "getSwiftCode").tag("outcome", "success").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void failingCalls_taggedByOutcomeAndRethrown() {
+        when(swiftCodeService.getSwiftCode("UNKNOWNXXXX")).thenThrow(new ResourceNotFoundException("not found"));
+        when(swiftCodeService.addSwiftCode(any())).thenThrow(new DuplicateEntryException("duplicate"));
+
+        assertThatThrownBy(() -> timedService.getSwiftCode("UNKNOWNXXXX")).isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> timedService.addSwiftCode(null)).isInstanceOf(DuplicateEntryException.class);
+
+        assertThat(meterRegistry.get(ServiceMetricsAspect.TIMER_NAME)
+                .tag("method", "getSwiftCode").tag("outcome", "not_found").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(ServiceMetricsAspect.TIMER_NAME)
+                .tag("method", "addSwiftCode").tag("outcome", "duplicate").timer().count()).isEqualTo(1);
+    }
+}
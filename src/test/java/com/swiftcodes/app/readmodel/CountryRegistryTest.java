@@ -0,0 +1,111 @@
+package com.swiftcodes.app.readmodel;
+
+import com.swiftcodes.app.model.Country;
+import com.swiftcodes.app.repository.CountryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CountryRegistryTest {
+
+    @Mock
+    private CountryRepository countryRepository;
+
+    private CountryRegistry registry;
+
+    @BeforeEach
+    public void setup() {
+        registry = new CountryRegistry(countryRepository);
+        when(countryRepository.findAll()).thenReturn(List.of(new Country("PL", "Poland")));
+    }
+
+    @Test
+    public void findName_readsFromLoadedSnapshotOnly() {
+        assertThat(registry.findName("PL")).contains("Poland");
+        assertThat(registry.findName("DE")).isEmpty();
+        assertThat(registry.findNames(List.of("PL", "DE", "PL"))).isEqualTo(Map.of("PL", "Poland"));
+
+        verify(countryRepository, times(1)).findAll();
+        verifyNoMoreInteractions(countryRepository);
+    }
+
+    @Test
+    public void getOrCreate_newCountry_savesOnceAndRegistersIt() {
+        when(countryRepository.insertIfAbsent("DE", "GERMANY")).thenReturn(1);
+
+        registry.getOrCreate("DE", "GERMANY");
+        registry.getOrCreate("DE", "GERMANY");
+        registry.getOrCreate("PL", "POLAND");
+
+        verify(countryRepository, times(1)).insertIfAbsent(anyString(), anyString());
+        assertThat(registry.findName("DE")).contains("GERMANY");
+    }
+
+    @Test
+    public void createMissing_savesOnlyUnknownCountries() {
+        when(countryRepository.insertIfAbsent("DE", "DE")).thenReturn(1);
+
+        int created = registry.createMissing(Map.of("PL", "Poland", "DE", ""));
+
+        assertThat(created).isEqualTo(1);
+        assertThat(registry.findName("DE")).contains("DE");
+    }
+
+    @Test
+    public void getOrCreate_countryCreatedByAnotherInstance_registersStoredRow() {
+        when(countryRepository.insertIfAbsent("DE", "GERMANY")).thenReturn(0);
+        when(countryRepository.findById("DE")).thenReturn(Optional.of(new Country("DE", "DEUTSCHLAND")));
+
+        Country country = registry.getOrCreate("DE", "GERMANY");
+
+        assertThat(country.getName()).isEqualTo("DEUTSCHLAND");
+        assertThat(registry.findName("DE")).contains("DEUTSCHLAND");
+    }
+
+    @Test
+    public void createMissing_countryCreatedByAnotherInstance_isNotCounted() {
+        when(countryRepository.insertIfAbsent("DE", "Germany")).thenReturn(0);
+        when(countryRepository.findById("DE")).thenReturn(Optional.of(new Country("DE", "Germany")));
+
+        int created = registry.createMissing(Map.of("DE", "Germany"));
+
+        assertThat(created).isZero();
+        assertThat(registry.findName("DE")).contains("Germany");
+    }
+
+    @Test
+    public void getOrCreate_sameNewCountryTwiceInTransaction_insertsOnceAndPublishesAfterCommit() {
+        when(countryRepository.insertIfAbsent("DE", "GERMANY")).thenReturn(1);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            registry.getOrCreate("DE", "GERMANY");
+            assertThat(registry.getOrCreate("DE", "GERMANY").getName()).isEqualTo("GERMANY");
+            assertThat(registry.createMissing(Map.of("DE", "GERMANY"))).isZero();
+            assertThat(registry.findName("DE")).isEmpty();
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(countryRepository, times(1)).insertIfAbsent(anyString(), anyString());
+        assertThat(registry.findName("DE")).contains("GERMANY");
+        assertThat(TransactionSynchronizationManager.getResourceMap()).isEmpty();
+    }
+}
@@ -0,0 +1,70 @@
+package com.swiftcodes.app.readmodel;
+
+import com.swiftcodes.app.repository.SwiftCodeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class HeadquartersRegistryTest {
+
+    @Mock
+    private SwiftCodeRepository swiftCodeRepository;
+
+    private HeadquartersRegistry registry;
+
+    @BeforeEach
+    public void setup() {
+        registry = new HeadquartersRegistry(swiftCodeRepository);
+        when(swiftCodeRepository.findHeadquarterBaseSwiftCodes()).thenReturn(List.of("ABCDEFGH"));
+    }
+
+    @Test
+    public void exists_loadedBase_answersWithoutQuery() {
+        assertThat(registry.exists("ABCDEFGH")).isTrue();
+        assertThat(registry.exists("ABCDEFGH")).isTrue();
+
+        verify(swiftCodeRepository, never()).existsByIsHeadquarterTrueAndBaseSwiftCode(anyString());
+    }
+
+    @Test
+    public void exists_miss_fallsBackToIndexedQueryAndRemembersHit() {
+        when(swiftCodeRepository.existsByIsHeadquarterTrueAndBaseSwiftCode("IJKLMNOP")).thenReturn(true);
+        when(swiftCodeRepository.existsByIsHeadquarterTrueAndBaseSwiftCode("QRSTUVWX")).thenReturn(false);
+
+        assertThat(registry.exists("IJKLMNOP")).isTrue();
+        assertThat(registry.exists("IJKLMNOP")).isTrue();
+        assertThat(registry.exists("QRSTUVWX")).isFalse();
+
+        verify(swiftCodeRepository, times(1)).existsByIsHeadquarterTrueAndBaseSwiftCode("IJKLMNOP");
+    }
+
+    @Test
+    public void existing_checksAllMissesWithOneQueryAndRemembersHits() {
+        when(swiftCodeRepository.findHeadquarterBaseSwiftCodesIn(argThat(codes -> codes.size() == 2)))
+                .thenReturn(List.of("IJKLMNOP"));
+
+        assertThat(registry.existing(List.of("ABCDEFGH", "IJKLMNOP", "QRSTUVWX", "IJKLMNOP")))
+                .containsExactlyInAnyOrder("ABCDEFGH", "IJKLMNOP");
+        assertThat(registry.exists("IJKLMNOP")).isTrue();
+
+        verify(swiftCodeRepository, times(1)).findHeadquarterBaseSwiftCodesIn(any());
+        verify(swiftCodeRepository, never()).existsByIsHeadquarterTrueAndBaseSwiftCode(anyString());
+    }
+
+    @Test
+    public void registerAndUnregister_outsideTransaction_applyImmediately() {
+        registry.register(List.of("IJKLMNOP"));
+        registry.unregister("ABCDEFGH");
+
+        assertThat(registry.baseCodes()).containsExactly("IJKLMNOP");
+    }
+}
@@ -0,0 +1,81 @@
+package com.swiftcodes.app.readmodel;
+
+import com.swiftcodes.app.config.NegativeLookupProperties;
+import com.swiftcodes.app.event.SwiftCodesChangedEvent;
+import com.swiftcodes.app.repository.SwiftCodeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class KnownSwiftCodesFilterTest {
+
+    @Mock
+    private SwiftCodeRepository swiftCodeRepository;
+
+    private KnownSwiftCodesFilter filter;
+
+    @BeforeEach
+    public void setup() {
+        NegativeLookupProperties properties = new NegativeLookupProperties();
+        properties.setEnabled(true);
+        filter = new KnownSwiftCodesFilter(swiftCodeRepository, properties);
+    }
+
+    @Test
+    public void mightContain_beforeLoad_passesEverything() {
+        assertThat(filter.mightContain("UNKNOWNXXXX")).isTrue();
+        verifyNoInteractions(swiftCodeRepository);
+    }
+
+    @Test
+    public void mightContain_loadedCodes_neverFalseNegativeAndRejectsMostUnknown() {
+        List<String> stored = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            stored.add("BANK%04dXXX".formatted(i));
+        }
+        when(swiftCodeRepository.findAllSwiftCodes()).thenReturn(stored);
+        filter.loadOnStartup();
+
+        assertThat(stored).allMatch(filter::mightContain);
+        long falsePositives = 0;
+        for (int i = 0; i < 5_000; i++) {
+            if (filter.mightContain("MISS%04dXXX".formatted(i))) {
+                falsePositives++;
+            }
+        }
+        assertThat(falsePositives).isLessThan(100);
+    }
+
+    @Test
+    public void upsertedCode_passesImmediately() {
+        when(swiftCodeRepository.findAllSwiftCodes()).thenReturn(List.of("ABCDEFGHXXX"));
+        filter.loadOnStartup();
+        assertThat(filter.mightContain("IJKLMNOPXXX")).isFalse();
+
+        filter.onSwiftCodesWritten(SwiftCodesChangedEvent.upserted("IJKLMNOPXXX", "PL"));
+
+        assertThat(filter.mightContain("IJKLMNOPXXX")).isTrue();
+    }
+
+    @Test
+    public void imported_rebuildsFromDatabase() {
+        when(swiftCodeRepository.findAllSwiftCodes())
+                .thenReturn(List.of("ABCDEFGHXXX"))
+                .thenReturn(List.of("IJKLMNOPXXX"));
+        filter.loadOnStartup();
+
+        filter.onSwiftCodesChanged(SwiftCodesChangedEvent.imported());
+
+        assertThat(filter.mightContain("IJKLMNOPXXX")).isTrue();
+        assertThat(filter.mightContain("ABCDEFGHXXX")).isFalse();
+    }
+}
@@ -0,0 +1,85 @@
+package com.swiftcodes.app.readmodel;
+
+import com.swiftcodes.app.model.Country;
+import com.swiftcodes.app.model.SwiftCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class SwiftCodeIndexTest {
+
+    private SwiftCodeIndex index;
+
+    @BeforeEach
+    public void setup() {
+        index = SwiftCodeIndex.build(
+                List.of(
+                        swiftCode("ABCDEFGHXXX", "PL", true),
+                        swiftCode("ABCDEFGH222", "PL", false),
+                        swiftCode("ABCDEFGH111", "PL", false),
+                        swiftCode("IJKLMNOPXXX", "DE", true)
+                ),
+                List.of(new Country("PL", "POLAND"), new Country("DE", "GERMANY"))
+        );
+    }
+
+    @Test
+    public void build_indexesByCodeBaseAndCountry() {
+        assertThat(index.size()).isEqualTo(4);
+        assertThat(index.find("ABCDEFGHXXX")).isPresent();
+        assertThat(index.branchesOf("ABCDEFGH"))
+                .extracting(SwiftCode::getSwiftCode)
+                .containsExactly("ABCDEFGH111", "ABCDEFGH222");
+        assertThat(index.byCountry("PL")).hasSize(3);
+        assertThat(index.countryName("DE")).contains("GERMANY");
+    }
+
+    @Test
+    public void withUpserted_returnsNewIndexAndLeavesOriginalUntouched() {
+        SwiftCodeIndex updated = index.withUpserted(
+                List.of(swiftCode("ABCDEFGH000", "PL", false), swiftCode("QRSTUVWXXXX", "FR", true)),
+                List.of(new Country("FR", "FRANCE")));
+
+        assertThat(updated.branchesOf("ABCDEFGH"))
+                .extracting(SwiftCode::getSwiftCode)
+                .containsExactly("ABCDEFGH000", "ABCDEFGH111", "ABCDEFGH222");
+        assertThat(updated.countryName("FR")).contains("FRANCE");
+        assertThat(updated.byCountry("FR")).hasSize(1);
+
+        assertThat(index.find("ABCDEFGH000")).isEmpty();
+        assertThat(index.branchesOf("ABCDEFGH")).hasSize(2);
+        assertThat(index.countryName("FR")).isEmpty();
+    }
+
+    @Test
+    public void withUpserted_existingCodeMovesBetweenCountries() {
+        SwiftCodeIndex updated = index.withUpserted(List.of(swiftCode("ABCDEFGH111", "DE", false)), List.of());
+
+        assertThat(updated.byCountry("PL")).extracting(SwiftCode::getSwiftCode).doesNotContain("ABCDEFGH111");
+        assertThat(updated.byCountry("DE")).extracting(SwiftCode::getSwiftCode).contains("ABCDEFGH111");
+        assertThat(updated.branchesOf("ABCDEFGH")).hasSize(2);
+    }
+
+    @Test
+    public void withDeleted_removesCodeFromAllKeys() {
+        SwiftCodeIndex updated = index.withDeleted(List.of("ABCDEFGH111", "IJKLMNOPXXX"));
+
+        assertThat(updated.find("ABCDEFGH111")).isEmpty();
+        assertThat(updated.branchesOf("ABCDEFGH")).extracting(SwiftCode::getSwiftCode).containsExactly("ABCDEFGH222");
+        assertThat(updated.byCountry("DE")).isEmpty();
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    private SwiftCode swiftCode(String code, String iso, boolean headquarter) {
+        SwiftCode swiftCode = new SwiftCode();
+        swiftCode.setSwiftCode(code);
+        swiftCode.setBankName("BANK " + code);
+        swiftCode.setAddress("ADDRESS " + code);
+        swiftCode.setCountryIso2Code(iso);
+        swiftCode.setIsHeadquarter(headquarter);
+        return swiftCode;
+    }
+}
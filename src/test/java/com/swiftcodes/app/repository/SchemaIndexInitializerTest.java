@@ -0,0 +1,41 @@
+package com.swiftcodes.app.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SchemaIndexInitializerTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final SchemaIndexInitializer initializer = new SchemaIndexInitializer(mock(DataSource.class), jdbcTemplate);
+
+    @Test
+    public void dropInvalidIndexes_dropsIndexLeftByInterruptedBuild() {
+        when(jdbcTemplate.queryForList(anyString(), eq(Boolean.class), eq("idx_country_iso2_swift_code")))
+                .thenReturn(List.of(true));
+
+        initializer.dropInvalidIndexes();
+
+        verify(jdbcTemplate).execute("DROP INDEX CONCURRENTLY IF EXISTS idx_country_iso2_swift_code");
+    }
+
+    @Test
+    public void dropInvalidIndexes_keepsValidOrMissingIndex() {
+        when(jdbcTemplate.queryForList(anyString(), eq(Boolean.class), eq("idx_country_iso2_swift_code")))
+                .thenReturn(List.of(false), List.of());
+
+        initializer.dropInvalidIndexes();
+        initializer.dropInvalidIndexes();
+
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+}
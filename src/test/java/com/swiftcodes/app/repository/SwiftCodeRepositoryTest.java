@@ -0,0 +1,45 @@
+package com.swiftcodes.app.repository;
+
+import com.swiftcodes.app.model.SwiftCode;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SwiftCodeRepositoryTest {
+
+    private final SwiftCodeRepository repository = mock(SwiftCodeRepository.class);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void upsertAll_marksOnlyExistingCodesAsPersistedAndKeepsLastDuplicate() {
+        when(repository.upsertAll(anyCollection())).thenCallRealMethod();
+        when(repository.findAllById(anyIterable())).thenReturn(List.of(code("ABCDEFGHXXX", "STORED")));
+        when(repository.saveAll(any())).thenAnswer(invocation -> List.copyOf(invocation.getArgument(0)));
+
+        SwiftCode existing = code("ABCDEFGHXXX", "UPDATED");
+        SwiftCode first = code("IJKLMNOPXXX", "FIRST");
+        SwiftCode last = code("IJKLMNOPXXX", "LAST");
+
+        List<SwiftCode> saved = repository.upsertAll(List.of(existing, first, last));
+
+        ArgumentCaptor<Iterable<SwiftCode>> captor = ArgumentCaptor.forClass(Iterable.class);
+        verify(repository).saveAll(captor.capture());
+        assertThat(captor.getValue()).containsExactly(existing, last);
+        assertThat(saved).extracting(SwiftCode::getBankName).containsExactly("UPDATED", "LAST");
+        assertThat(existing.isNew()).isFalse();
+        assertThat(last.isNew()).isTrue();
+    }
+
+    private SwiftCode code(String swiftCode, String bankName) {
+        return new SwiftCode(swiftCode, bankName, "ADDRESS", "PL", true, null);
+    }
+}
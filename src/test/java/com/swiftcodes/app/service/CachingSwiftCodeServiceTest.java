@@ -0,0 +1,98 @@
+package com.swiftcodes.app.service;
+
+import com.swiftcodes.app.config.LookupCacheProperties;
+import com.swiftcodes.app.dto.CacheStatsDTO;
+import com.swiftcodes.app.dto.CountrySwiftCodesResponseDTO;
+import com.swiftcodes.app.dto.SwiftCodeResponseDTO;
+import com.swiftcodes.app.event.SwiftCodesChangedEvent;
+import com.swiftcodes.app.exception.ResourceNotFoundException;
+import com.swiftcodes.app.readmodel.KnownSwiftCodesFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CachingSwiftCodeServiceTest {
+
+    @Mock
+    private SwiftCodeServiceImpl swiftCodeServiceImpl;
+
+    @Mock
+    private KnownSwiftCodesFilter knownSwiftCodesFilter;
+
+    private CachingSwiftCodeService cachingService;
+
+    @BeforeEach
+    public void setup() {
+        lenient().when(knownSwiftCodesFilter.mightContain(anyString())).thenReturn(true);
+        cachingService = new CachingSwiftCodeService(swiftCodeServiceImpl, knownSwiftCodesFilter, new LookupCacheProperties());
+    }
+
+    @Test
+    public void getSwiftCode_repeatedLookup_hitsDelegateOnce() {
+        SwiftCodeResponseDTO dto = SwiftCodeResponseDTO.builder().swiftCode("ABCDEFGHXXX").build();
+        when(swiftCodeServiceImpl.getSwiftCode("ABCDEFGHXXX")).thenReturn(dto);
+
+        assertThat(cachingService.getSwiftCode("ABCDEFGHXXX")).isSameAs(dto);
+        assertThat(cachingService.getSwiftCode("ABCDEFGHXXX")).isSameAs(dto);
+
+        verify(swiftCodeServiceImpl, times(1)).getSwiftCode("ABCDEFGHXXX");
+        CacheStatsDTO stats = cachingService.getStats().get(0);
+        assertThat(stats.getHitCount()).isEqualTo(1);
+        assertThat(stats.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void getSwiftCode_notFound_isNotCached() {
+        when(swiftCodeServiceImpl.getSwiftCode("ABCDEFGHXXX")).thenThrow(new ResourceNotFoundException("missing"));
+
+        assertThatThrownBy(() -> cachingService.getSwiftCode("ABCDEFGHXXX")).isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> cachingService.getSwiftCode("ABCDEFGHXXX")).isInstanceOf(ResourceNotFoundException.class);
+
+        verify(swiftCodeServiceImpl, times(2)).getSwiftCode("ABCDEFGHXXX");
+    }
+
+    @Test
+    public void onSwiftCodesChanged_branchUpserted_evictsBranchHeadquarterAndCountryPages() {
+        when(swiftCodeServiceImpl.getSwiftCode(anyString()))
+                .thenAnswer(invocation -> SwiftCodeResponseDTO.builder().swiftCode(invocation.getArgument(0)).build());
+        PageRequest pageable = PageRequest.of(0, 10);
+        when(swiftCodeServiceImpl.getSwiftCodesByCountry(anyString(), eq(pageable)))
+                .thenAnswer(invocation -> new CountrySwiftCodesResponseDTO());
+
+        cachingService.getSwiftCode("ABCDEFGHXXX");
+        cachingService.getSwiftCode("ZYXWVUTSXXX");
+        cachingService.getSwiftCodesByCountry("PL", pageable);
+        cachingService.getSwiftCodesByCountry("DE", pageable);
+
+        cachingService.onSwiftCodesChanged(SwiftCodesChangedEvent.upserted("ABCDEFGH123", "PL"));
+
+        cachingService.getSwiftCode("ABCDEFGHXXX");
+        cachingService.getSwiftCode("ZYXWVUTSXXX");
+        cachingService.getSwiftCodesByCountry("PL", pageable);
+        cachingService.getSwiftCodesByCountry("DE", pageable);
+
+        verify(swiftCodeServiceImpl, times(2)).getSwiftCode("ABCDEFGHXXX");
+        verify(swiftCodeServiceImpl, times(1)).getSwiftCode("ZYXWVUTSXXX");
+        verify(swiftCodeServiceImpl, times(2)).getSwiftCodesByCountry("PL", pageable);
+        verify(swiftCodeServiceImpl, times(1)).getSwiftCodesByCountry("DE", pageable);
+    }
+
+    @Test
+    public void onSwiftCodesChanged_imported_clearsAllEntries() {
+        when(swiftCodeServiceImpl.getSwiftCode("ABCDEFGHXXX"))
+                .thenReturn(SwiftCodeResponseDTO.builder().swiftCode("ABCDEFGHXXX").build());
+
+        cachingService.getSwiftCode("ABCDEFGHXXX");
+        cachingService.onSwiftCodesChanged(SwiftCodesChangedEvent.imported());
+        cachingService.getSwiftCode("ABCDEFGHXXX");
+
+        verify(swiftCodeServiceImpl, times(2)).getSwiftCode("ABCDEFGHXXX");
+    }
+}
@@ -0,0 +1,121 @@
+package com.swiftcodes.app.service;
+
+import com.swiftcodes.app.config.ImportProperties;
+import com.swiftcodes.app.dto.ImportJobDTO;
+import com.swiftcodes.app.dto.SwiftCodeFileResponseDTO;
+import com.swiftcodes.app.exception.InvalidDataException;
+import com.swiftcodes.app.exception.ResourceNotFoundException;
+import com.swiftcodes.app.importer.ImportProgress;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ImportJobServiceImplTest {
+
+    @Mock
+    private SwiftCodeFileService swiftCodeFileService;
+
+    private ImportJobServiceImpl importJobService;
+
+    @BeforeEach
+    public void setup() {
+        importJobService = new ImportJobServiceImpl(swiftCodeFileService, new ImportProperties());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        importJobService.shutdown();
+    }
+
+    @Test
+    public void submit_runsImportInBackgroundAndExposesResult() {
+        SwiftCodeFileResponseDTO result = new SwiftCodeFileResponseDTO(2, 0, 1, 1, 1);
+        when(swiftCodeFileService.parseAndSaveSwiftCodes(any(InputStream.class), eq("test.csv"), any(ImportProgress.class)))
+                .thenAnswer(invocation -> {
+                    ImportProgress progress = invocation.getArgument(2);
+                    progress.recordParsed();
+                    progress.recordParsed();
+                    progress.recordHeadquartersSaved(1);
+                    progress.recordBranchesSaved(1);
+                    return result;
+                });
+
+        ImportJobDTO submitted = importJobService.submit(csvFile("test.csv"));
+        assertThat(submitted.getId()).isNotBlank();
+
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> importJobService.getJob(submitted.getId()).getStatus().equals("COMPLETED"));
+
+        ImportJobDTO finished = importJobService.getJob(submitted.getId());
+        assertThat(finished.getResult()).isSameAs(result);
+        assertThat(finished.getRowsParsed()).isEqualTo(2);
+        assertThat(finished.getHeadquartersSaved()).isEqualTo(1);
+        assertThat(finished.getBranchesSaved()).isEqualTo(1);
+        assertThat(finished.getFinishedAt()).isNotNull();
+    }
+
+    @Test
+    public void submit_unsupportedFileName_rejectsBeforeQueueing() {
+        assertThatThrownBy(() -> importJobService.submit(csvFile("test.txt")))
+                .isInstanceOf(InvalidDataException.class)
+                .hasMessageContaining("Invalid file format");
+
+        verifyNoInteractions(swiftCodeFileService);
+    }
+
+    @Test
+    public void submit_invalidContent_marksJobFailed() {
+        when(swiftCodeFileService.parseAndSaveSwiftCodes(any(InputStream.class), eq("test.csv"), any(ImportProgress.class)))
+                .thenThrow(new InvalidDataException("Invalid CSV file format or corrupted file."));
+
+        ImportJobDTO submitted = importJobService.submit(csvFile("test.csv"));
+
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> importJobService.getJob(submitted.getId()).getStatus().equals("FAILED"));
+
+        assertThat(importJobService.getJob(submitted.getId()).getError()).contains("Invalid CSV file format");
+    }
+
+    @Test
+    public void getJob_finishedJobPastRetention_isEvicted() {
+        ImportProperties properties = new ImportProperties();
+        properties.getAsync().setJobRetention(Duration.ZERO);
+        importJobService.shutdown();
+        importJobService = new ImportJobServiceImpl(swiftCodeFileService, properties);
+        when(swiftCodeFileService.parseAndSaveSwiftCodes(any(InputStream.class), eq("test.csv"), any(ImportProgress.class)))
+                .thenReturn(new SwiftCodeFileResponseDTO(0, 0, 0, 0, 0));
+
+        ImportJobDTO submitted = importJobService.submit(csvFile("test.csv"));
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThatThrownBy(() -> importJobService.getJob(submitted.getId()))
+                        .isInstanceOf(ResourceNotFoundException.class));
+    }
+
+    @Test
+    public void getJob_unknownId_throwsResourceNotFoundException() {
+        assertThatThrownBy(() -> importJobService.getJob("missing"))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("Import job not found");
+    }
+
+    private MockMultipartFile csvFile(String name) {
+        return new MockMultipartFile("file", name, "text/csv",
+                "COUNTRY ISO2 CODE,SWIFT CODE,NAME,ADDRESS,COUNTRY NAME\n".getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,94 @@
+package com.swiftcodes.app.service;
+
+import com.swiftcodes.app.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class SingleFlightTest {
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+    @Test
+    public void execute_concurrentCallers_shareOneLoad() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> singleFlight.execute("ABCDEFGHXXX", () -> {
+                    loads.incrementAndGet();
+                    await(release);
+                    return "loaded";
+                })));
+            }
+            // Give every caller time to join the in-flight load before it completes.
+            Thread.sleep(200);
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("loaded");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    public void execute_failedLoad_rethrowsToWaitersAndIsNotRemembered() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ResourceNotFoundException notFound = new ResourceNotFoundException("SWIFT code not found: UNKNOWNXXXX");
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> leader = executor.submit(() -> singleFlight.execute("UNKNOWNXXXX", () -> {
+                started.countDown();
+                await(release);
+                throw notFound;
+            }));
+            started.await();
+
+            AtomicReference<Throwable> waiterFailure = new AtomicReference<>();
+            Thread waiter = new Thread(() -> {
+                try {
+                    singleFlight.execute("UNKNOWNXXXX", () -> "unexpected");
+                } catch (RuntimeException e) {
+                    waiterFailure.set(e);
+                }
+            });
+            waiter.start();
+            Thread.sleep(100);
+            release.countDown();
+            waiter.join(5_000);
+
+            assertThat(waiterFailure).hasValue(notFound);
+
+            assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCause(notFound);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(singleFlight.execute("UNKNOWNXXXX", () -> "fresh")).isEqualTo("fresh");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
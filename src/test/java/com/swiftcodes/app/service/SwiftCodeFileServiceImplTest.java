@@ -1,22 +1,34 @@
 package com.swiftcodes.app.service;
 
+import com.swiftcodes.app.config.ImportProperties;
+import com.swiftcodes.app.dto.ImportChangesDTO;
 import com.swiftcodes.app.dto.SwiftCodeDTO;
 import com.swiftcodes.app.dto.SwiftCodeFileResponseDTO;
+import com.swiftcodes.app.event.SwiftCodesChangedEvent;
 import com.swiftcodes.app.exception.InvalidDataException;
+import com.swiftcodes.app.importer.DeltaImporter;
+import com.swiftcodes.app.importer.ImportProgress;
+import com.swiftcodes.app.importer.ParallelSwiftCodeCsvReader;
+import com.swiftcodes.app.importer.PostgresCopyImporter;
+import com.swiftcodes.app.importer.ShadowTableImporter;
+import com.swiftcodes.app.importer.StreamingSwiftCodeImporter;
+import com.swiftcodes.app.importer.SwiftCodeCsvReader;
 import com.swiftcodes.app.mapper.SwiftCodeMapper;
 import com.swiftcodes.app.model.SwiftCode;
-import com.swiftcodes.app.repository.CountryRepository;
+import com.swiftcodes.app.readmodel.CountryRegistry;
+import com.swiftcodes.app.readmodel.HeadquartersRegistry;
 import com.swiftcodes.app.repository.SwiftCodeRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.mock.web.MockMultipartFile;
 
 import java.nio.charset.StandardCharsets;
-import java.util.Collections;
 import java.util.Arrays;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -32,14 +44,38 @@ public class SwiftCodeFileServiceImplTest {
     private SwiftCodeMapper swiftCodeMapper;
 
     @Mock
-    private CountryRepository countryRepository;
+    private CountryRegistry countryRegistry;
+
+    @Mock
+    private HeadquartersRegistry headquartersRegistry;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private ImportProperties importProperties = new ImportProperties();
+
+    @Mock
+    private PostgresCopyImporter copyImporter;
+
+    @Mock
+    private StreamingSwiftCodeImporter streamingImporter;
+
+    @Mock
+    private ShadowTableImporter shadowTableImporter;
+
+    @Mock
+    private DeltaImporter deltaImporter;
+
+    @Mock
+    private ParallelSwiftCodeCsvReader parallelCsvReader;
 
     @InjectMocks
     private SwiftCodeFileServiceImpl fileService;
 
     @BeforeEach
     public void setup() {
-        when(countryRepository.existsById("PL")).thenReturn(true);
+        lenient().when(countryRegistry.createMissing(anyMap())).thenReturn(0);
     }
 
     @Test
@@ -51,13 +87,10 @@ public class SwiftCodeFileServiceImplTest {
                 "text/csv", csvContent.getBytes(StandardCharsets.UTF_8));
 
 
-        when(swiftCodeRepository.existsById("ABCDEFGHXXX")).thenReturn(true);
         when(swiftCodeMapper.toEntity(any(SwiftCodeDTO.class))).thenReturn(new SwiftCode());
 
-        SwiftCode headquarter = new SwiftCode();
-        headquarter.setSwiftCode("ABCDEFGHXXX");
-        when(swiftCodeRepository.findAllByIsHeadquarterTrue()).thenReturn(Collections.singletonList(headquarter));
-        when(swiftCodeRepository.saveAll(any())).thenReturn(null);
+        when(headquartersRegistry.existing(Set.of("ABCDEFGH"))).thenReturn(Set.of("ABCDEFGH"));
+        when(swiftCodeRepository.upsertAll(any())).thenReturn(null);
 
         SwiftCodeFileResponseDTO response = fileService.parseAndSaveSwiftCodes(file);
 
@@ -78,13 +111,10 @@ public class SwiftCodeFileServiceImplTest {
                 "text/csv", csvContent.getBytes(StandardCharsets.UTF_8));
 
 
-        when(swiftCodeRepository.existsById("ABCDEFGHXXX")).thenReturn(true);
         when(swiftCodeMapper.toEntity(any(SwiftCodeDTO.class))).thenReturn(new SwiftCode());
 
-        SwiftCode headquarter = new SwiftCode();
-        headquarter.setSwiftCode("ABCDEFGHXXX");
-        when(swiftCodeRepository.findAllByIsHeadquarterTrue()).thenReturn(Collections.singletonList(headquarter));
-        when(swiftCodeRepository.saveAll(any())).thenReturn(null);
+        when(headquartersRegistry.existing(Set.of("ABCDEFGH"))).thenReturn(Set.of("ABCDEFGH"));
+        when(swiftCodeRepository.upsertAll(any())).thenReturn(null);
 
         SwiftCodeFileResponseDTO response = fileService.parseAndSaveSwiftCodes(file);
 
@@ -116,4 +146,59 @@ public class SwiftCodeFileServiceImplTest {
                 .isInstanceOf(InvalidDataException.class)
                 .hasMessageContaining("CSV file is missing required column");
     }
+
+    @Test
+    public void parseAndSaveSwiftCodes_copyEngine_delegatesToCopyImporter() throws Exception {
+        importProperties.setEngine(ImportProperties.Engine.COPY);
+        String csvContent = "COUNTRY ISO2 CODE,SWIFT CODE,NAME,ADDRESS,COUNTRY NAME\n" +
+                "PL,ABCDEFGHXXX,Bank Test,Adres Testowy,Polska\n";
+        MockMultipartFile file = new MockMultipartFile("file", "test.csv",
+                "text/csv", csvContent.getBytes(StandardCharsets.UTF_8));
+
+        SwiftCodeFileResponseDTO expected = new SwiftCodeFileResponseDTO(1, 0, 1, 1, 0);
+        when(copyImporter.importCsv(any(), any(SwiftCodeCsvReader.class), any(ImportProgress.class))).thenReturn(expected);
+
+        SwiftCodeFileResponseDTO response = fileService.parseAndSaveSwiftCodes(file);
+
+        assertThat(response).isSameAs(expected);
+        verify(swiftCodeRepository, never()).saveAll(any());
+        verify(eventPublisher).publishEvent(any(SwiftCodesChangedEvent.class));
+    }
+
+    @Test
+    public void parseAndSaveSwiftCodes_replaceEngine_delegatesToShadowTableImporter() throws Exception {
+        importProperties.setEngine(ImportProperties.Engine.REPLACE);
+        String csvContent = "COUNTRY ISO2 CODE,SWIFT CODE,NAME,ADDRESS,COUNTRY NAME\n" +
+                "PL,ABCDEFGHXXX,Bank Test,Adres Testowy,Polska\n";
+        MockMultipartFile file = new MockMultipartFile("file", "test.csv",
+                "text/csv", csvContent.getBytes(StandardCharsets.UTF_8));
+
+        SwiftCodeFileResponseDTO expected = new SwiftCodeFileResponseDTO(1, 0, 1, 1, 0);
+        when(shadowTableImporter.importCsv(any(), any(SwiftCodeCsvReader.class), any(ImportProgress.class))).thenReturn(expected);
+
+        SwiftCodeFileResponseDTO response = fileService.parseAndSaveSwiftCodes(file);
+
+        assertThat(response).isSameAs(expected);
+        verifyNoInteractions(copyImporter, streamingImporter);
+        verify(eventPublisher).publishEvent(any(SwiftCodesChangedEvent.class));
+    }
+
+    @Test
+    public void parseAndSaveSwiftCodes_deltaEngine_returnsChangeCounts() throws Exception {
+        importProperties.setEngine(ImportProperties.Engine.DELTA);
+        String csvContent = "COUNTRY ISO2 CODE,SWIFT CODE,NAME,ADDRESS,COUNTRY NAME\n" +
+                "PL,ABCDEFGHXXX,Bank Name,Address,Poland\n";
+        MockMultipartFile file = new MockMultipartFile("file", "test.csv",
+                "text/csv", csvContent.getBytes(StandardCharsets.UTF_8));
+
+        ImportChangesDTO changes = ImportChangesDTO.builder().inserted(1).updated(2).deleted(3).unchanged(4).build();
+        when(deltaImporter.importCsv(any(), any(SwiftCodeCsvReader.class), any(ImportProgress.class)))
+                .thenReturn(new SwiftCodeFileResponseDTO(7, 0, 0, 1, 2, changes));
+
+        SwiftCodeFileResponseDTO response = fileService.parseAndSaveSwiftCodes(file);
+
+        assertThat(response.getChanges()).isEqualTo(changes);
+        verifyNoInteractions(copyImporter, streamingImporter, shadowTableImporter);
+        verify(swiftCodeRepository, never()).saveAll(any());
+    }
 }
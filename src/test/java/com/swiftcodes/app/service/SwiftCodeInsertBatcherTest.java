@@ -0,0 +1,161 @@
+package com.swiftcodes.app.service;
+
+import com.swiftcodes.app.config.WriteBatchingProperties;
+import com.swiftcodes.app.dto.SwiftCodeRequestDTO;
+import com.swiftcodes.app.dto.SwiftCodeResponseDTO;
+import com.swiftcodes.app.exception.DatabaseException;
+import com.swiftcodes.app.exception.DuplicateEntryException;
+import com.swiftcodes.app.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SwiftCodeInsertBatcherTest {
+
+    private final SwiftCodeServiceImpl swiftCodeServiceImpl = mock(SwiftCodeServiceImpl.class);
+    private final ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor();
+    private final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+    private SwiftCodeInsertBatcher batcher;
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        batcher.shutdown();
+        callers.shutdownNow();
+    }
+
+    @Test
+    public void addSwiftCode_concurrentRequests_shareBatchButGetOwnOutcome() throws Exception {
+        CountDownLatch firstInsertStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstInsert = new CountDownLatch(1);
+        when(swiftCodeServiceImpl.addSwiftCode(any(SwiftCodeRequestDTO.class))).thenAnswer(invocation -> {
+            firstInsertStarted.countDown();
+            releaseFirstInsert.await(5, TimeUnit.SECONDS);
+            return response(invocation.getArgument(0));
+        });
+        when(swiftCodeServiceImpl.addSwiftCodes(anyList())).thenAnswer(invocation -> {
+            List<SwiftCodeRequestDTO> requests = invocation.getArgument(0);
+            batchSizes.add(requests.size());
+            return requests.stream().map(request -> request.getSwiftCode().startsWith("DUP")
+                    ? new SwiftCodeServiceImpl.InsertOutcome(null, new DuplicateEntryException("SWIFT code already exists: " + request.getSwiftCode()))
+                    : new SwiftCodeServiceImpl.InsertOutcome(response(request), null)).toList();
+        });
+        start(10, Duration.ofMillis(20), Duration.ofSeconds(5));
+
+        // The first insert occupies the writer, so the next three queue up and are written together.
+        CompletableFuture<SwiftCodeResponseDTO> first = submit("AAAAAAAAXXX");
+        assertThat(firstInsertStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<SwiftCodeResponseDTO> second = submit("BBBBBBBBXXX");
+        CompletableFuture<SwiftCodeResponseDTO> duplicate = submit("DUPLICATXXX");
+        CompletableFuture<SwiftCodeResponseDTO> third = submit("CCCCCCCCXXX");
+        awaitQueued(3);
+        releaseFirstInsert.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS).getSwiftCode()).isEqualTo("AAAAAAAAXXX");
+        assertThat(second.get(5, TimeUnit.SECONDS).getSwiftCode()).isEqualTo("BBBBBBBBXXX");
+        assertThat(third.get(5, TimeUnit.SECONDS).getSwiftCode()).isEqualTo("CCCCCCCCXXX");
+        assertThatThrownBy(duplicate::join).hasCauseInstanceOf(DuplicateEntryException.class);
+        assertThat(batchSizes).containsExactly(3);
+    }
+
+    @Test
+    public void addSwiftCode_failedBatch_retriesEachInsertThroughAddSwiftCode() throws Exception {
+        when(swiftCodeServiceImpl.addSwiftCodes(anyList())).thenAnswer(invocation -> {
+            batchSizes.add(((List<?>) invocation.getArgument(0)).size());
+            throw new DataIntegrityViolationException("violates foreign key constraint");
+        });
+        when(swiftCodeServiceImpl.addSwiftCode(any(SwiftCodeRequestDTO.class))).thenAnswer(invocation -> {
+            SwiftCodeRequestDTO request = invocation.getArgument(0);
+            if (request.getSwiftCode().startsWith("BAD")) {
+                throw new DataIntegrityViolationException("violates foreign key constraint");
+            }
+            return response(request);
+        });
+        start(2, Duration.ofSeconds(5), Duration.ofSeconds(5));
+
+        CompletableFuture<SwiftCodeResponseDTO> good = submit("AAAAAAAAXXX");
+        CompletableFuture<SwiftCodeResponseDTO> bad = submit("BADBADBAXXX");
+
+        assertThat(good.get(5, TimeUnit.SECONDS).getSwiftCode()).isEqualTo("AAAAAAAAXXX");
+        assertThatThrownBy(bad::join).hasCauseInstanceOf(DataIntegrityViolationException.class);
+        assertThat(batchSizes).containsExactly(2);
+        verify(swiftCodeServiceImpl, times(2)).addSwiftCode(any(SwiftCodeRequestDTO.class));
+    }
+
+    @Test
+    public void addSwiftCode_writerStuck_timesOutWithServiceUnavailable() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(swiftCodeServiceImpl.addSwiftCode(any(SwiftCodeRequestDTO.class))).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return response(invocation.getArgument(0));
+        });
+        start(1, Duration.ZERO, Duration.ofMillis(50));
+
+        CompletableFuture<SwiftCodeResponseDTO> stuck = submit("AAAAAAAAXXX");
+
+        assertThatThrownBy(() -> stuck.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(ServiceUnavailableException.class);
+        release.countDown();
+    }
+
+    @Test
+    public void addSwiftCode_errorInWriter_failsBatchAndKeepsWriting() throws Exception {
+        when(swiftCodeServiceImpl.addSwiftCode(any(SwiftCodeRequestDTO.class)))
+                .thenThrow(new AssertionError("boom"))
+                .thenAnswer(invocation -> response(invocation.getArgument(0)));
+        start(1, Duration.ZERO, Duration.ofSeconds(5));
+
+        assertThatThrownBy(() -> submit("AAAAAAAAXXX").get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(DatabaseException.class);
+        assertThat(submit("BBBBBBBBXXX").get(5, TimeUnit.SECONDS).getSwiftCode()).isEqualTo("BBBBBBBBXXX");
+    }
+
+    private void start(int maxBatchSize, Duration maxDelay, Duration timeout) {
+        WriteBatchingProperties properties = new WriteBatchingProperties();
+        properties.setMaxBatchSize(maxBatchSize);
+        properties.setMaxDelay(maxDelay);
+        properties.setTimeout(timeout);
+        batcher = new SwiftCodeInsertBatcher(swiftCodeServiceImpl, properties);
+        batcher.start();
+    }
+
+    private CompletableFuture<SwiftCodeResponseDTO> submit(String swiftCode) {
+        SwiftCodeRequestDTO request = SwiftCodeRequestDTO.builder()
+                .swiftCode(swiftCode)
+                .bankName("Bank")
+                .address("Address")
+                .countryISO2("PL")
+                .isHeadquarter(true)
+                .build();
+        return CompletableFuture.supplyAsync(() -> batcher.addSwiftCode(request), callers);
+    }
+
+    private void awaitQueued(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (batcher.queuedInserts() < count && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private SwiftCodeResponseDTO response(SwiftCodeRequestDTO request) {
+        SwiftCodeResponseDTO response = new SwiftCodeResponseDTO();
+        response.setSwiftCode(request.getSwiftCode());
+        return response;
+    }
+}
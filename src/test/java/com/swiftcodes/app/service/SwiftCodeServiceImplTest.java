@@ -1,19 +1,27 @@
 package com.swiftcodes.app.service;
 
+import com.swiftcodes.app.dto.CountrySwiftCodesResponseDTO;
+import com.swiftcodes.app.dto.SwiftCodeLookupResponseDTO;
 import com.swiftcodes.app.dto.SwiftCodeRequestDTO;
 import com.swiftcodes.app.dto.SwiftCodeResponseDTO;
 import com.swiftcodes.app.exception.DuplicateEntryException;
+import com.swiftcodes.app.exception.InvalidDataException;
 import com.swiftcodes.app.exception.ResourceNotFoundException;
 import com.swiftcodes.app.mapper.SwiftCodeMapper;
 import com.swiftcodes.app.model.Country;
 import com.swiftcodes.app.model.SwiftCode;
-import com.swiftcodes.app.repository.CountryRepository;
+import com.swiftcodes.app.readmodel.CountryRegistry;
+import com.swiftcodes.app.readmodel.HeadquartersRegistry;
+import com.swiftcodes.app.readmodel.KnownSwiftCodesFilter;
+import com.swiftcodes.app.repository.SwiftCodeDetailsView;
 import com.swiftcodes.app.repository.SwiftCodeRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 
 import java.util.*;
 
@@ -31,7 +39,16 @@ public class SwiftCodeServiceImplTest {
     private SwiftCodeMapper swiftCodeMapper;
 
     @Mock
-    private CountryRepository countryRepository;
+    private CountryRegistry countryRegistry;
+
+    @Mock
+    private HeadquartersRegistry headquartersRegistry;
+
+    @Mock
+    private KnownSwiftCodesFilter knownSwiftCodesFilter;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private SwiftCodeServiceImpl swiftCodeService;
@@ -41,6 +58,8 @@ public class SwiftCodeServiceImplTest {
 
     @BeforeEach
     public void setup() {
+        lenient().when(knownSwiftCodesFilter.mightContain(anyString())).thenReturn(true);
+
         headquarterEntity = new SwiftCode();
         headquarterEntity.setSwiftCode("ABCDEFGHXXX");
         headquarterEntity.setBankName("BANK TEST");
@@ -61,50 +80,190 @@ public class SwiftCodeServiceImplTest {
 
     @Test
     public void getSwiftCode_validHeadquarter_returnsDTOWithBranches() {
+        SwiftCodeDetailsView headquarterRow = new SwiftCodeDetailsView(
+                "ABCDEFGHXXX", "BANK TEST", "ADRES TESTOWY", "PL", true, "Polska");
+        SwiftCodeDetailsView branchRow = new SwiftCodeDetailsView(
+                "ABCDEFGH111", "BANK TEST", "ADRES ODDZIAŁU", "PL", false, "Polska");
+
+        when(swiftCodeRepository.findWithBranches("ABCDEFGHXXX", "ABCDEFGH"))
+                .thenReturn(List.of(branchRow, headquarterRow));
+        when(swiftCodeMapper.toResponseDTO(any(SwiftCodeDetailsView.class))).thenAnswer(invocation -> {
+            SwiftCodeDetailsView row = invocation.getArgument(0);
+            return SwiftCodeResponseDTO.builder()
+                    .swiftCode(row.swiftCode())
+                    .bankName(row.bankName())
+                    .address(row.address())
+                    .countryISO2(row.countryIso2Code())
+                    .countryName(row.countryName())
+                    .isHeadquarter(row.isHeadquarter())
+                    .build();
+        });
 
-        when(swiftCodeRepository.findById("ABCDEFGHXXX")).thenReturn(Optional.of(headquarterEntity));
-        when(swiftCodeMapper.toResponseDTO(headquarterEntity)).thenReturn(
-                headquarterRequestToResponse(headquarterRequestDTO)
-        );
+        SwiftCodeResponseDTO result = swiftCodeService.getSwiftCode("ABCDEFGHXXX");
 
+        assertThat(result).isNotNull();
+        assertThat(result.getSwiftCode()).isEqualTo("ABCDEFGHXXX");
+        assertThat(result.getCountryName()).isEqualTo("POLSKA");
+        assertThat(result.getBranches()).hasSize(1);
+        assertThat(result.getBranches().get(0).getSwiftCode()).isEqualTo("ABCDEFGH111");
+        assertThat(result.getBranches().get(0).getCountryName()).isNull();
+        verify(swiftCodeRepository, never()).findById(any());
+        verifyNoInteractions(countryRegistry);
+    }
 
+    @Test
+    public void getSwiftCode_branchLimit_returnsFirstBranchesCountAndCursor() {
+        SwiftCodeDetailsView headquarterRow = new SwiftCodeDetailsView(
+                "ABCDEFGHXXX", "BANK TEST", "ADRES TESTOWY", "PL", true, "Polska");
+        SwiftCodeDetailsView firstBranch = new SwiftCodeDetailsView(
+                "ABCDEFGH111", "BANK TEST", "ADRES 1", "PL", false, "Polska");
+        SwiftCodeDetailsView secondBranch = new SwiftCodeDetailsView(
+                "ABCDEFGH222", "BANK TEST", "ADRES 2", "PL", false, "Polska");
+
+        when(swiftCodeRepository.findWithBranchPage("ABCDEFGHXXX", "ABCDEFGH", "", Limit.of(3)))
+                .thenReturn(List.of(headquarterRow, firstBranch, secondBranch));
+        when(swiftCodeRepository.countBranchesByHeadquarter("ABCDEFGH")).thenReturn(250L);
+        when(swiftCodeMapper.toResponseDTO(any(SwiftCodeDetailsView.class))).thenAnswer(invocation -> {
+            SwiftCodeDetailsView row = invocation.getArgument(0);
+            return SwiftCodeResponseDTO.builder()
+                    .swiftCode(row.swiftCode())
+                    .countryISO2(row.countryIso2Code())
+                    .isHeadquarter(row.isHeadquarter())
+                    .build();
+        });
+
+        SwiftCodeResponseDTO result = swiftCodeService.getSwiftCode("ABCDEFGHXXX", 1, null);
+
+        assertThat(result.getBranches()).extracting(SwiftCodeResponseDTO::getSwiftCode).containsExactly("ABCDEFGH111");
+        assertThat(result.getBranchCount()).isEqualTo(250);
+        assertThat(result.getNextBranchCursor()).isEqualTo(KeysetCursor.encode("ABCDEFGH", "ABCDEFGH111"));
+    }
+
+    @Test
+    public void getSwiftCode_unknownCode_throwsResourceNotFoundException() {
+        when(swiftCodeRepository.findWithBranches("ABCDEFGHXXX", "ABCDEFGH")).thenReturn(List.of());
+
+        assertThatThrownBy(() -> swiftCodeService.getSwiftCode("ABCDEFGHXXX"))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    public void getSwiftCode_definiteMiss_skipsRepository() {
+        when(knownSwiftCodesFilter.mightContain("UNKNOWNXXXX")).thenReturn(false);
+
+        assertThatThrownBy(() -> swiftCodeService.getSwiftCode("UNKNOWNXXXX"))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .satisfies(e -> assertThat(e.getStackTrace()).isEmpty());
+        verifyNoInteractions(swiftCodeRepository);
+    }
+
+    @Test
+    public void lookupSwiftCodes_mixedCodes_returnsFoundAndMissingWithBatchedQueries() {
         SwiftCode branchEntity = new SwiftCode();
         branchEntity.setSwiftCode("ABCDEFGH111");
         branchEntity.setBankName("BANK TEST");
         branchEntity.setAddress("ADRES ODDZIAŁU");
         branchEntity.setCountryIso2Code("PL");
         branchEntity.setIsHeadquarter(false);
-        branchEntity.setBaseSwiftCode("ABCDEFGHXXX");
 
-        SwiftCodeRequestDTO branchRequestDTO = SwiftCodeRequestDTO.builder()
+        when(swiftCodeRepository.findAllById(new LinkedHashSet<>(List.of("ABCDEFGHXXX", "MISSING0XXX"))))
+                .thenReturn(List.of(headquarterEntity));
+        when(swiftCodeRepository.findBranchesByHeadquarters(Set.of("ABCDEFGH"))).thenReturn(List.of(branchEntity));
+        when(countryRegistry.findNames(Set.of("PL"))).thenReturn(Map.of("PL", "Poland"));
+        when(swiftCodeMapper.toResponseDTO(headquarterEntity)).thenReturn(
+                headquarterRequestToResponse(headquarterRequestDTO)
+        );
+        when(swiftCodeMapper.toResponseDTO(branchEntity)).thenReturn(SwiftCodeResponseDTO.builder()
                 .swiftCode("ABCDEFGH111")
                 .bankName("BANK TEST")
                 .address("ADRES ODDZIAŁU")
                 .countryISO2("PL")
-                .countryName("POLSKA")
                 .isHeadquarter(false)
-                .build();
+                .build());
+
+        SwiftCodeLookupResponseDTO result = swiftCodeService.lookupSwiftCodes(
+                List.of("ABCDEFGHXXX", "MISSING0XXX", "ABCDEFGHXXX"));
+
+        assertThat(result.getFound()).containsOnlyKeys("ABCDEFGHXXX");
+        SwiftCodeResponseDTO headquarter = result.getFound().get("ABCDEFGHXXX");
+        assertThat(headquarter.getCountryName()).isEqualTo("POLAND");
+        assertThat(headquarter.getBranches()).extracting(SwiftCodeResponseDTO::getSwiftCode)
+                .containsExactly("ABCDEFGH111");
+        assertThat(result.getMissing()).containsExactly("MISSING0XXX");
+        verify(swiftCodeRepository, never()).findById(any());
+        verify(swiftCodeRepository, never()).findBranchesByHeadquarter(any());
+    }
 
-        when(swiftCodeRepository.findBranchesByHeadquarter("ABCDEFGH")).thenReturn(Arrays.asList(branchEntity));
-        when(swiftCodeMapper.toResponseDTO(branchEntity)).thenReturn(
-                branchRequestToResponse(branchRequestDTO)
-        );
+    @Test
+    public void getSwiftCodesByCountry_cursor_seeksAfterLastCodeAndReturnsNextCursor() {
+        SwiftCode first = new SwiftCode("ABCDEFGHXXX", "BANK A", "ADDRESS A", "PL", true, null);
+        SwiftCode second = new SwiftCode("BCDEFGHIXXX", "BANK B", "ADDRESS B", "PL", true, null);
+        SwiftCode third = new SwiftCode("CDEFGHIJXXX", "BANK C", "ADDRESS C", "PL", true, null);
+
+        when(swiftCodeRepository.findByCountryIso2CodeAndSwiftCodeGreaterThanOrderBySwiftCodeAsc("PL", "", Limit.of(3)))
+                .thenReturn(List.of(first, second, third));
+        when(swiftCodeMapper.toResponseDTO(any(SwiftCode.class))).thenAnswer(invocation -> {
+            SwiftCode code = invocation.getArgument(0);
+            return SwiftCodeResponseDTO.builder()
+                    .swiftCode(code.getSwiftCode())
+                    .bankName(code.getBankName())
+                    .address(code.getAddress())
+                    .countryISO2(code.getCountryIso2Code())
+                    .build();
+        });
+
+        CountrySwiftCodesResponseDTO firstPage = swiftCodeService.getSwiftCodesByCountry("PL", "", 2);
+
+        assertThat(firstPage.getSwiftCodes()).extracting(SwiftCodeResponseDTO::getSwiftCode)
+                .containsExactly("ABCDEFGHXXX", "BCDEFGHIXXX");
+        assertThat(firstPage.getNextCursor()).isNotNull();
+
+        when(swiftCodeRepository.findByCountryIso2CodeAndSwiftCodeGreaterThanOrderBySwiftCodeAsc("PL", "BCDEFGHIXXX", Limit.of(3)))
+                .thenReturn(List.of(third));
+
+        CountrySwiftCodesResponseDTO secondPage = swiftCodeService.getSwiftCodesByCountry("PL", firstPage.getNextCursor(), 2);
+
+        assertThat(secondPage.getSwiftCodes()).extracting(SwiftCodeResponseDTO::getSwiftCode)
+                .containsExactly("CDEFGHIJXXX");
+        assertThat(secondPage.getNextCursor()).isNull();
+    }
 
-        SwiftCodeResponseDTO result = swiftCodeService.getSwiftCode("ABCDEFGHXXX");
+    @Test
+    public void getSwiftCodesByCountry_cursorFromOtherCountry_throwsInvalidDataException() {
+        String cursor = KeysetCursor.encode("DE", "ABCDEFGHXXX");
 
-        assertThat(result).isNotNull();
-        assertThat(result.getSwiftCode()).isEqualTo("ABCDEFGHXXX");
-        assertThat(result.getBranches()).hasSize(1);
-        assertThat(result.getBranches().get(0).getSwiftCode()).isEqualTo("ABCDEFGH111");
+        assertThatThrownBy(() -> swiftCodeService.getSwiftCodesByCountry("PL", cursor, 10))
+                .isInstanceOf(InvalidDataException.class);
     }
 
     @Test
     public void addSwiftCode_duplicateEntry_throwsDuplicateEntryException() {
-        when(swiftCodeRepository.existsById(headquarterRequestDTO.getSwiftCode())).thenReturn(true);
+        when(swiftCodeMapper.toEntity(headquarterRequestDTO)).thenReturn(headquarterEntity);
+        when(swiftCodeRepository.insertIfAbsent(headquarterEntity)).thenReturn(0);
 
         assertThatThrownBy(() -> swiftCodeService.addSwiftCode(headquarterRequestDTO))
                 .isInstanceOf(DuplicateEntryException.class)
                 .hasMessageContaining("SWIFT code already exists");
+        verify(headquartersRegistry, never()).register(any());
+    }
+
+    @Test
+    public void addSwiftCode_branchWithoutHeadquarters_throwsInvalidDataException() {
+        SwiftCodeRequestDTO dto = SwiftCodeRequestDTO.builder()
+                .swiftCode("IJKLMNOP123")
+                .bankName("Test Bank")
+                .address("Test Address")
+                .countryISO2("US")
+                .countryName("United States")
+                .isHeadquarter(false)
+                .build();
+
+        when(headquartersRegistry.exists("IJKLMNOP")).thenReturn(false);
+
+        assertThatThrownBy(() -> swiftCodeService.addSwiftCode(dto))
+                .isInstanceOf(InvalidDataException.class)
+                .hasMessageContaining("matching headquarters");
+        verify(swiftCodeRepository, never()).insertIfAbsent(any());
     }
 
     @Test
@@ -118,9 +277,6 @@ public class SwiftCodeServiceImplTest {
                 .isHeadquarter(true)
                 .build();
 
-        when(swiftCodeRepository.existsById(dto.getSwiftCode())).thenReturn(false);
-        when(countryRepository.existsById("US")).thenReturn(true);
-
         SwiftCode newEntity = new SwiftCode();
         newEntity.setSwiftCode("IJKLMNOPXXX");
         newEntity.setBankName("TEST BANK");
@@ -130,7 +286,7 @@ public class SwiftCodeServiceImplTest {
         newEntity.setBaseSwiftCode("IJKLMNOPXXX");
 
         when(swiftCodeMapper.toEntity(dto)).thenReturn(newEntity);
-        when(swiftCodeRepository.save(newEntity)).thenReturn(newEntity);
+        when(swiftCodeRepository.insertIfAbsent(newEntity)).thenReturn(1);
         when(swiftCodeMapper.toResponseDTO(newEntity)).thenReturn(dtoToResponse(dto));
 
         SwiftCodeResponseDTO result = swiftCodeService.addSwiftCode(dto);
@@ -151,9 +307,6 @@ public class SwiftCodeServiceImplTest {
                 .isHeadquarter(true)
                 .build();
 
-        when(swiftCodeRepository.existsById(dto.getSwiftCode())).thenReturn(false);
-        when(countryRepository.existsById("US")).thenReturn(false);
-
         SwiftCode newEntity = new SwiftCode();
         newEntity.setSwiftCode("IJKLMNOPXXX");
         newEntity.setBankName("NEW BANK");
@@ -163,7 +316,7 @@ public class SwiftCodeServiceImplTest {
         newEntity.setBaseSwiftCode("IJKLMNOPXXX");
 
         when(swiftCodeMapper.toEntity(dto)).thenReturn(newEntity);
-        when(swiftCodeRepository.save(newEntity)).thenReturn(newEntity);
+        when(swiftCodeRepository.insertIfAbsent(newEntity)).thenReturn(1);
         when(swiftCodeMapper.toResponseDTO(newEntity)).thenReturn(dtoToResponse(dto));
 
         SwiftCodeResponseDTO result = swiftCodeService.addSwiftCode(dto);
@@ -172,7 +325,48 @@ public class SwiftCodeServiceImplTest {
         assertThat(result.getSwiftCode()).isEqualTo("IJKLMNOPXXX");
         assertThat(result.getBankName()).isEqualTo("New Bank");
 
-        verify(countryRepository, times(1)).save(any(Country.class));
+        verify(countryRegistry, times(1)).getOrCreate("US", "UNITED STATES");
+    }
+
+    @Test
+    public void addSwiftCodes_batch_failsOnlyDuplicatesAndAcceptsBranchOfHeadquartersInBatch() {
+        SwiftCodeRequestDTO headquarters = requestDTO("IJKLMNOPXXX", true);
+        SwiftCodeRequestDTO branch = requestDTO("IJKLMNOP123", false);
+        SwiftCodeRequestDTO duplicate = requestDTO("ABCDEFGHXXX", true);
+        SwiftCodeRequestDTO orphan = requestDTO("QRSTUVWX123", false);
+
+        when(swiftCodeMapper.toEntity(any(SwiftCodeRequestDTO.class))).thenAnswer(invocation -> {
+            SwiftCodeRequestDTO dto = invocation.getArgument(0);
+            return new SwiftCode(dto.getSwiftCode(), dto.getBankName(), dto.getAddress(), dto.getCountryISO2(),
+                    dto.getIsHeadquarter(), null);
+        });
+        when(swiftCodeRepository.insertIfAbsent(any(SwiftCode.class)))
+                .thenAnswer(invocation -> "ABCDEFGHXXX".equals(((SwiftCode) invocation.getArgument(0)).getSwiftCode()) ? 0 : 1);
+        when(swiftCodeMapper.toResponseDTO(any(SwiftCode.class))).thenAnswer(invocation -> {
+            SwiftCodeResponseDTO response = new SwiftCodeResponseDTO();
+            response.setSwiftCode(((SwiftCode) invocation.getArgument(0)).getSwiftCode());
+            return response;
+        });
+
+        List<SwiftCodeServiceImpl.InsertOutcome> outcomes =
+                swiftCodeService.addSwiftCodes(List.of(headquarters, branch, duplicate, orphan));
+
+        assertThat(outcomes.get(0).response().getSwiftCode()).isEqualTo("IJKLMNOPXXX");
+        assertThat(outcomes.get(1).response().getSwiftCode()).isEqualTo("IJKLMNOP123");
+        assertThat(outcomes.get(2).error()).isInstanceOf(DuplicateEntryException.class);
+        assertThat(outcomes.get(3).error()).isInstanceOf(InvalidDataException.class);
+        verify(swiftCodeRepository, times(3)).insertIfAbsent(any(SwiftCode.class));
+    }
+
+    private SwiftCodeRequestDTO requestDTO(String swiftCode, boolean headquarter) {
+        return SwiftCodeRequestDTO.builder()
+                .swiftCode(swiftCode)
+                .bankName("Bank")
+                .address("Address")
+                .countryISO2("PL")
+                .countryName("Poland")
+                .isHeadquarter(headquarter)
+                .build();
     }
 
     @Test
@@ -0,0 +1,94 @@
+package com.swiftcodes.app.snapshot;
+
+import com.swiftcodes.app.model.SwiftCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class SnapshotIndexTest {
+
+    private static final List<SwiftCode> CODES = List.of(
+            swiftCode("IJKLMNOPXXX", "DE", true, "BANK DE", null),
+            swiftCode("ABCDEFGH222", "PL", false, "BANK PL", "ADDRESS 2"),
+            swiftCode("ABCDEFGHXXX", "PL", true, "BANK PL", "ADDRESS 1"),
+            swiftCode("ABCDEFGH111", "PL", false, "BANK PL", "ADDRESS 1")
+    );
+
+    private byte[] snapshot;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SnapshotWriter.write(CODES, Map.of("PL", "POLAND", "DE", "GERMANY"), out);
+        snapshot = out.toByteArray();
+    }
+
+    @Test
+    public void wrap_answersLookups() throws IOException {
+        SnapshotIndex index = SnapshotIndex.wrap(ByteBuffer.wrap(snapshot));
+
+        assertThat(index.size()).isEqualTo(4);
+        assertThat(index.find("ABCDEFGH222")).get()
+                .satisfies(code -> {
+                    assertThat(code.getBankName()).isEqualTo("BANK PL");
+                    assertThat(code.getAddress()).isEqualTo("ADDRESS 2");
+                    assertThat(code.getCountryIso2Code()).isEqualTo("PL");
+                    assertThat(code.getIsHeadquarter()).isFalse();
+                    assertThat(code.getBaseSwiftCode()).isEqualTo("ABCDEFGH");
+                });
+        assertThat(index.find("IJKLMNOPXXX")).get().extracting(SwiftCode::getAddress).isNull();
+        assertThat(index.find("ABCDEFGH333")).isEmpty();
+        assertThat(index.find("ABC")).isEmpty();
+
+        assertThat(index.branchesOf("ABCDEFGH"))
+                .extracting(SwiftCode::getSwiftCode)
+                .containsExactly("ABCDEFGH111", "ABCDEFGH222");
+        assertThat(index.branchesOf("ZZZZZZZZ")).isEmpty();
+
+        assertThat(index.byCountry("PL"))
+                .extracting(SwiftCode::getSwiftCode)
+                .containsExactly("ABCDEFGH111", "ABCDEFGH222", "ABCDEFGHXXX");
+        assertThat(index.byCountry("FR")).isEmpty();
+        assertThat(index.countryName("DE")).contains("GERMANY");
+        assertThat(index.countryName("FR")).isEmpty();
+    }
+
+    @Test
+    public void open_mapsWrittenFile(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("swift-codes.snap");
+        try (OutputStream out = Files.newOutputStream(file)) {
+            SnapshotWriter.write(CODES, Map.of("PL", "POLAND"), out);
+        }
+
+        SnapshotIndex index = SnapshotIndex.open(file);
+
+        assertThat(index.find("IJKLMNOPXXX")).isPresent();
+        assertThat(index.countryName("DE")).isEmpty();
+    }
+
+    @Test
+    public void wrap_rejectsCorruptSnapshots() {
+        byte[] badMagic = snapshot.clone();
+        badMagic[0] = 'X';
+        byte[] truncated = Arrays.copyOf(snapshot, snapshot.length - 1);
+
+        assertThatThrownBy(() -> SnapshotIndex.wrap(ByteBuffer.wrap(badMagic))).isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> SnapshotIndex.wrap(ByteBuffer.wrap(truncated))).isInstanceOf(IOException.class);
+    }
+
+    private static SwiftCode swiftCode(String code, String country, boolean headquarter, String name, String address) {
+        return new SwiftCode(code, name, address, country, headquarter, code.substring(0, 8));
+    }
+}
@@ -0,0 +1,50 @@
+package com.swiftcodes.app.snapshot;
+
+import com.swiftcodes.app.config.SnapshotProperties;
+import com.swiftcodes.app.model.SwiftCode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class SnapshotStoreTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    public void reloadIfChanged_missingThenCorruptThenReplaced_loadsReplacement() throws IOException {
+        Path path = directory.resolve("swift-codes.snap");
+        SnapshotProperties properties = new SnapshotProperties();
+        properties.setPath(path);
+        SnapshotStore store = new SnapshotStore(properties);
+
+        store.reloadIfChanged();
+        store.reloadIfChanged();
+        assertThat(store.current()).isEmpty();
+
+        Files.write(path, new byte[]{1, 2, 3});
+        store.reloadIfChanged();
+        store.reloadIfChanged();
+        assertThat(store.current()).isEmpty();
+
+        Path next = directory.resolve("swift-codes.snap.next");
+        try (OutputStream out = Files.newOutputStream(next)) {
+            SnapshotWriter.write(List.of(new SwiftCode("ABCDEFGHXXX", "BANK PL", "ADDRESS", "PL", true, "ABCDEFGH")),
+                    Map.of("PL", "POLAND"), out);
+        }
+        Files.move(next, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        store.reloadIfChanged();
+
+        assertThat(store.current()).get().extracting(SnapshotIndex::size).isEqualTo(1);
+        store.shutdown();
+    }
+}